@@ -0,0 +1,171 @@
+package org.example.learning_platform.benchmarks;
+
+import org.example.learning_platform.dto.EnrollmentDto;
+import org.example.learning_platform.dto.FeedbackDto;
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.entity.Enrollment;
+import org.example.learning_platform.entity.Feedback;
+import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.entity.Student;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Seeded fixture data and service stubs shared by the benchmarks.
+ * Every list is generated from a fixed seed, so runs before and after a change see identical input.
+ * Associations are drawn from pools that are much smaller than the row count, as they are in production:
+ * many courses share one instructor and many enrollments share one course.
+ */
+final class Fixtures {
+    private static final long SEED = 42L;
+    private static final LocalDate EPOCH = LocalDate.of(2020, 1, 1);
+    private static final int DAYS = 5 * 365;
+    private static final String[] SYLLABLES = {
+            "an", "be", "ca", "do", "el", "fa", "gi", "ho", "is", "ju", "ka", "lo", "ma", "ni", "or", "pe",
+            "qu", "ra", "si", "to", "ul", "va", "we", "xi", "yo", "za"
+    };
+
+    private Fixtures() {}
+
+    /**
+     * Generates a pronounceable name of two to four syllables.
+     */
+    static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 2 + random.nextInt(3); i > 0; i--) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    static LocalDate date(Random random) {
+        return EPOCH.plusDays(random.nextInt(DAYS));
+    }
+
+    static List<Category> categories(int count) {
+        Random random = new Random(SEED);
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            categories.add(new Category().setId((long) i).setName(name(random) + " " + i)
+                    .setDescription("Category " + i));
+        }
+        return categories;
+    }
+
+    static List<Instructor> instructors(int count) {
+        Random random = new Random(SEED + 1);
+        List<Instructor> instructors = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String name = name(random) + " " + name(random);
+            instructors.add(new Instructor().setId((long) i).setName(name)
+                    .setEmail("instructor" + i + "@example.org").setBio("Bio of " + name));
+        }
+        return instructors;
+    }
+
+    static List<Student> students(int count) {
+        Random random = new Random(SEED + 2);
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            students.add(new Student().setId((long) i).setName(name(random) + " " + name(random))
+                    .setEmail("student" + i + "@example.org")
+                    .setDateOfBirth(LocalDate.of(1980 + random.nextInt(25), 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                    .setRegistrationDate(date(random)));
+        }
+        return students;
+    }
+
+    static List<Course> courses(int count, List<Instructor> instructors, List<Category> categories) {
+        Random random = new Random(SEED + 3);
+        List<Course> courses = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            int ratingCount = random.nextInt(200);
+            double ratingSum = ratingCount * (1 + random.nextDouble() * 4);
+            courses.add(new Course().setId((long) i).setTitle(name(random) + " " + name(random) + " " + i)
+                    .setDescription("Description of course " + i)
+                    .setDuration(1 + random.nextInt(120)).setPrice(random.nextInt(500))
+                    .setTotalEnrollments(random.nextInt(10_000))
+                    .setRatingCount(ratingCount).setRatingSum(ratingSum)
+                    .setAverageRating(ratingCount == 0 ? 0.0F : (float) (ratingSum / ratingCount))
+                    .setCreationDate(date(random))
+                    .setInstructor(instructors.get(random.nextInt(instructors.size())))
+                    .setCategory(categories.get(random.nextInt(categories.size()))));
+        }
+        return courses;
+    }
+
+    static List<Enrollment> enrollments(int count, List<Student> students, List<Course> courses) {
+        Random random = new Random(SEED + 4);
+        List<Enrollment> enrollments = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            enrollments.add(new Enrollment().setId((long) i).setEnrollmentDate(date(random))
+                    .setCompletionStatus(random.nextBoolean())
+                    .setEnrollmentStudent(students.get(random.nextInt(students.size())))
+                    .setEnrollmentCourse(courses.get(random.nextInt(courses.size()))));
+        }
+        return enrollments;
+    }
+
+    static List<Feedback> feedbacks(int count, List<Student> students, List<Course> courses) {
+        Random random = new Random(SEED + 5);
+        List<Feedback> feedbacks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            feedbacks.add(new Feedback().setId((long) i).setRating((double) (1 + random.nextInt(5)))
+                    .setComment("Comment " + i).setFeedbackDate(date(random))
+                    .setFeedbackStudent(students.get(random.nextInt(students.size())))
+                    .setFeedbackCourse(courses.get(random.nextInt(courses.size()))));
+        }
+        return feedbacks;
+    }
+
+    static List<EnrollmentDto> enrollmentDtos(List<Enrollment> enrollments) {
+        return enrollments.stream().map(enrollment -> new EnrollmentDto()
+                .setId(enrollment.getId())
+                .setEnrollmentDate(enrollment.getEnrollmentDate())
+                .setCompletionStatus(enrollment.getCompletionStatus())
+                .setStudentName(enrollment.getEnrollmentStudent().getName())
+                .setCourseId(enrollment.getEnrollmentCourse().getId())).toList();
+    }
+
+    static List<FeedbackDto> feedbackDtos(List<Feedback> feedbacks) {
+        return feedbacks.stream().map(feedback -> new FeedbackDto(feedback.getId(), feedback.getRating(),
+                feedback.getComment(), feedback.getFeedbackDate(), feedback.getFeedbackStudent().getName(),
+                feedback.getFeedbackCourse().getId(), feedback.getFeedbackCourse().getTitle())).toList();
+    }
+
+    /**
+     * Creates a stub of a service or repository interface.
+     * Methods listed in `answers` return the result of their function applied to the call arguments,
+     * every other method throws, so a benchmark fails loudly if the code under test starts calling something new.
+     *
+     * @param type    the interface to stub.
+     * @param answers the stubbed methods, keyed by method name.
+     * @return the stub.
+     */
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "stub of " + type.getSimpleName();
+                default:
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+                    }
+                    return answer.apply(args);
+            }
+        }));
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.learning_platform.benchmarks;
+
+import org.example.learning_platform.dto.CourseDtoResponse;
+import org.example.learning_platform.dto.EnrollmentDto;
+import org.example.learning_platform.dto.FeedbackDto;
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.entity.Enrollment;
+import org.example.learning_platform.entity.Feedback;
+import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.entity.Student;
+import org.example.learning_platform.service.CategoryService;
+import org.example.learning_platform.service.CourseService;
+import org.example.learning_platform.service.InstructorService;
+import org.example.learning_platform.service.StudentService;
+import org.example.learning_platform.utils.mapper.CourseMapper;
+import org.example.learning_platform.utils.mapper.EnrollmentMapper;
+import org.example.learning_platform.utils.mapper.FeedbackMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput of the `entityToDtoList` conversions of `CourseMapper`, `EnrollmentMapper` and `FeedbackMapper`.
+ * The services the mappers depend on are stubbed with in-memory lookups, so only the mapping itself is measured.
+ * Run with `-prof gc` to also report the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MapperBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private List<Course> courses;
+    private List<Enrollment> enrollments;
+    private List<Feedback> feedbacks;
+    private CourseMapper courseMapper;
+    private EnrollmentMapper enrollmentMapper;
+    private FeedbackMapper feedbackMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Category> categories = Fixtures.categories(50);
+        List<Instructor> instructors = Fixtures.instructors(Math.max(10, rows / 20));
+        List<Student> students = Fixtures.students(Math.max(100, rows / 10));
+        courses = Fixtures.courses(rows, instructors, categories);
+        List<Course> enrolledCourses = Fixtures.courses(Math.max(100, rows / 100), instructors, categories);
+        enrollments = Fixtures.enrollments(rows, students, enrolledCourses);
+        feedbacks = Fixtures.feedbacks(rows, students, enrolledCourses);
+
+        Map<Long, Instructor> instructorsById = byId(instructors, Instructor::getId);
+        Map<Long, Category> categoriesById = byId(categories, Category::getId);
+        InstructorService instructorService = Fixtures.stub(InstructorService.class, Map.of(
+                "getInstructorsByIds", args -> select(instructorsById, (Collection<?>) args[0])));
+        CategoryService categoryService = Fixtures.stub(CategoryService.class, Map.of(
+                "getCategoriesByIds", args -> select(categoriesById, (Collection<?>) args[0])));
+        CourseService courseService = Fixtures.stub(CourseService.class, Map.of());
+        StudentService studentService = Fixtures.stub(StudentService.class, Map.of());
+
+        courseMapper = new CourseMapper(instructorService, categoryService);
+        enrollmentMapper = new EnrollmentMapper(courseService, studentService);
+        feedbackMapper = new FeedbackMapper(courseService, studentService);
+    }
+
+    private static <T> Map<Long, T> byId(List<T> values, Function<T, Long> id) {
+        return values.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static <T> Map<Long, T> select(Map<Long, T> values, Collection<?> ids) {
+        Map<Long, T> selected = new HashMap<>();
+        for (Object id : ids) {
+            T value = values.get(id);
+            if (value != null) {
+                selected.put((Long) id, value);
+            }
+        }
+        return selected;
+    }
+
+    @Benchmark
+    public List<CourseDtoResponse> courseEntityToDtoList() {
+        return courseMapper.entityToDtoList(courses);
+    }
+
+    @Benchmark
+    public List<EnrollmentDto> enrollmentEntityToDtoList() {
+        return enrollmentMapper.entityToDtoList(enrollments);
+    }
+
+    @Benchmark
+    public List<FeedbackDto> feedbackEntityToDtoList() {
+        return feedbackMapper.entityToDtoList(feedbacks);
+    }
+}
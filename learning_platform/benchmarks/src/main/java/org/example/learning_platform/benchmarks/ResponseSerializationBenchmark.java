@@ -0,0 +1,87 @@
+package org.example.learning_platform.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.learning_platform.dto.CourseDtoResponse;
+import org.example.learning_platform.dto.FeedbackDto;
+import org.example.learning_platform.dto.Response;
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.entity.Student;
+import org.example.learning_platform.service.CategoryService;
+import org.example.learning_platform.service.InstructorService;
+import org.example.learning_platform.utils.mapper.CourseMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of serializing `Response` bodies to JSON, as the controllers return them.
+ * The `ObjectMapper` is built the same way Spring MVC builds the one behind its JSON message converter,
+ * and bodies are written to a discarding stream, so the cost measured is Jackson's and not a buffer's.
+ * Run with `-prof gc` to also report the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ResponseSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private Response courses;
+    private Response feedbacks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Category> categories = Fixtures.categories(50);
+        List<Instructor> instructors = Fixtures.instructors(Math.max(10, rows / 20));
+        List<Student> students = Fixtures.students(Math.max(100, rows / 10));
+        List<Course> courseRows = Fixtures.courses(rows, instructors, categories);
+
+        Map<Long, Instructor> instructorsById = new HashMap<>();
+        instructors.forEach(instructor -> instructorsById.put(instructor.getId(), instructor));
+        Map<Long, Category> categoriesById = new HashMap<>();
+        categories.forEach(category -> categoriesById.put(category.getId(), category));
+        CourseMapper courseMapper = new CourseMapper(
+                Fixtures.stub(InstructorService.class, Map.of("getInstructorsByIds", args -> instructorsById)),
+                Fixtures.stub(CategoryService.class, Map.of("getCategoriesByIds", args -> categoriesById)));
+        List<CourseDtoResponse> courseDtos = courseMapper.entityToDtoList(courseRows);
+        List<FeedbackDto> feedbackDtos = Fixtures.feedbackDtos(Fixtures.feedbacks(rows, students,
+                courseRows.subList(0, Math.max(1, rows / 100))));
+
+        courses = new Response("Successfully retrieved Courses.", courseDtos);
+        feedbacks = new Response("Successfully retrieved Feedbacks.", feedbackDtos);
+    }
+
+    @Benchmark
+    public void serializeCourses() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), courses);
+    }
+
+    @Benchmark
+    public void serializeFeedbacks() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), feedbacks);
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.learning_platform.benchmarks;
+
+import org.example.learning_platform.dto.CategoryDto;
+import org.example.learning_platform.dto.EnrollmentDto;
+import org.example.learning_platform.dto.FeedbackDto;
+import org.example.learning_platform.dto.InstructorDto;
+import org.example.learning_platform.dto.StudentDto;
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.entity.Student;
+import org.example.learning_platform.repository.CategoryRepository;
+import org.example.learning_platform.repository.FeedbackRepository;
+import org.example.learning_platform.repository.InstructorRepository;
+import org.example.learning_platform.repository.StudentRepository;
+import org.example.learning_platform.service.impl.CategoryServiceImpl;
+import org.example.learning_platform.service.impl.EnrollmentServiceImpl;
+import org.example.learning_platform.service.impl.FeedbackServiceImpl;
+import org.example.learning_platform.service.impl.InstructorServiceImpl;
+import org.example.learning_platform.service.impl.StudentServiceImpl;
+import org.example.learning_platform.utils.catalog.CategoryCatalog;
+import org.example.learning_platform.utils.mapper.CategoryMapper;
+import org.example.learning_platform.utils.mapper.InstructorMapper;
+import org.example.learning_platform.utils.mapper.StudentMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the in-memory `sortBy*` methods of the service implementations.
+ * Repositories are stubbed to return pre-built rows, so the student, instructor and category benchmarks measure
+ * the entity-to-DTO conversion plus the sort, exactly as the endpoints run them, without any database access.
+ * Run with `-prof gc` to also report the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private List<EnrollmentDto> enrollmentDtos;
+    private EnrollmentServiceImpl enrollmentService;
+    private FeedbackServiceImpl feedbackService;
+    private StudentServiceImpl studentService;
+    private InstructorServiceImpl instructorService;
+    private CategoryServiceImpl categoryService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Category> categories = Fixtures.categories(rows);
+        List<Instructor> instructors = Fixtures.instructors(rows);
+        List<Student> students = Fixtures.students(rows);
+        List<Course> courses = Fixtures.courses(Math.max(100, rows / 100),
+                instructors.subList(0, Math.min(instructors.size(), 1000)), categories.subList(0, 50));
+        List<Student> enrolledStudents = students.subList(0, Math.max(100, rows / 10));
+        enrollmentDtos = Fixtures.enrollmentDtos(Fixtures.enrollments(rows, enrolledStudents, courses));
+        List<FeedbackDto> feedbackDtos = Fixtures.feedbackDtos(Fixtures.feedbacks(rows, enrolledStudents, courses));
+
+        enrollmentService = new EnrollmentServiceImpl(null, null, null, null, null, null, null);
+        feedbackService = new FeedbackServiceImpl(
+                Fixtures.stub(FeedbackRepository.class, Map.of("findAllDtos", args -> feedbackDtos)),
+                null, null, null, null);
+        studentService = new StudentServiceImpl(
+                Fixtures.stub(StudentRepository.class, Map.of("findAll", args -> students)),
+                new StudentMapper(), null, null);
+        instructorService = new InstructorServiceImpl(
+                Fixtures.stub(InstructorRepository.class, Map.of("findAll", args -> instructors)),
+                new InstructorMapper(), null, null, null);
+        CategoryCatalog categoryCatalog = new CategoryCatalog(
+                Fixtures.stub(CategoryRepository.class, Map.of("findAll", args -> categories)));
+        categoryCatalog.reload();
+        categoryService = new CategoryServiceImpl(null, new CategoryMapper(), categoryCatalog, null, null, null);
+    }
+
+    @Benchmark
+    public List<EnrollmentDto> enrollmentSortByEnrollmentDate() {
+        return enrollmentService.sortByEnrollmentDate(enrollmentDtos);
+    }
+
+    @Benchmark
+    public List<EnrollmentDto> enrollmentSortByCompletionStatus() {
+        return enrollmentService.sortByCompletionStatus(true, enrollmentDtos);
+    }
+
+    @Benchmark
+    public List<FeedbackDto> feedbackSortByRating() {
+        return feedbackService.sortByRating();
+    }
+
+    @Benchmark
+    public List<FeedbackDto> feedbackSortByFeedbackDate() {
+        return feedbackService.sortByFeedbackDate();
+    }
+
+    @Benchmark
+    public List<StudentDto> studentSortByName() {
+        return studentService.sortByName();
+    }
+
+    @Benchmark
+    public List<InstructorDto> instructorSortByName() {
+        return instructorService.sortByName();
+    }
+
+    @Benchmark
+    public List<CategoryDto> categorySortByName() {
+        return categoryService.sortByName();
+    }
+}
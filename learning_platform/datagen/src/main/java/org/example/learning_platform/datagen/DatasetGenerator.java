@@ -0,0 +1,358 @@
+package org.example.learning_platform.datagen;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.example.learning_platform.datagen.SyntheticText.*;
+
+/**
+ * Generates a seeded, production-sized dataset and bulk-loads it into H2 or PostgreSQL.
+ * <p>
+ * Course popularity follows a Zipf distribution, so a few courses collect most enrollments while the long tail
+ * has almost none; instructors and categories are skewed the same way. Student activity is exponential around
+ * the mean number of enrollments per student, each enrollment has a chance of carrying a feedback, and ratings
+ * are centred on a per-course quality. Dates are consistent: students enroll after registering and after the
+ * course was created, and rate a course after enrolling.
+ * <p>
+ * Enrollments and feedbacks are never held in memory. They are regenerated from the same seed in three passes:
+ * the first computes the course aggregates (`total_enrollments`, `rating_sum`, `rating_count`,
+ * `average_rating`) so courses are loaded consistent with their enrollments, the others stream the rows.
+ * PostgreSQL is loaded with `COPY`, other databases with batched inserts. IDs continue after the rows already in
+ * the tables, and the ID sequences are moved past the loaded rows so the application keeps inserting safely.
+ * <p>
+ * The tables must exist: start the application once against the target database, or apply the migrations.
+ * The application's default in-memory H2 database is not reachable from another process, so point both at a
+ * file database, e.g. `spring.datasource.url=jdbc:h2:file:./data/brain_rush;AUTO_SERVER=TRUE`.
+ * <pre>
+ * java -jar target/datagen.jar --url=jdbc:postgresql://localhost:5432/brain_rush --user=postgres --password=... \
+ *      --students=1000000 --courses=50000 --enrollments=20000000 --feedbacks=5000000 --truncate
+ * </pre>
+ */
+public final class DatasetGenerator {
+    private static final int FIRST_DAY = (int) LocalDate.of(2019, 1, 1).toEpochDay();
+    private static final int LAST_DAY = (int) LocalDate.of(2024, 12, 31).toEpochDay();
+    private static final int MAX_ENROLLMENTS_PER_STUDENT = 500;
+    private static final double COMPLETION_RATE = 0.4;
+
+    private final Options options;
+    private final Connection connection;
+
+    private long studentOffset;
+    private long instructorOffset;
+    private long categoryOffset;
+    private long courseOffset;
+    private long enrollmentOffset;
+    private long feedbackOffset;
+
+    private int[] studentRegistrationDays;
+    private int[] courseCreationDays;
+    private double[] courseQuality;
+
+    private DatasetGenerator(Options options, Connection connection) {
+        this.options = options;
+        this.connection = connection;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Options options = Options.parse(args);
+        try (Connection connection = DriverManager.getConnection(options.url(), options.user(), options.password())) {
+            connection.setAutoCommit(false);
+            new DatasetGenerator(options, connection).run();
+        }
+    }
+
+    private void run() throws SQLException {
+        if (options.truncate()) {
+            truncate();
+        }
+        studentOffset = maxId("student");
+        instructorOffset = maxId("instructor");
+        categoryOffset = maxId("category");
+        courseOffset = maxId("course");
+        enrollmentOffset = maxId("enrollment");
+        feedbackOffset = maxId("feedback");
+
+        SplittableRandom root = new SplittableRandom(options.seed());
+        SplittableRandom categoryRandom = root.split();
+        SplittableRandom instructorRandom = root.split();
+        SplittableRandom studentRandom = root.split();
+        SplittableRandom courseRandom = root.split();
+        long enrollmentSeed = root.nextLong();
+
+        loadCategories(categoryRandom);
+        loadInstructors(instructorRandom);
+        loadStudents(studentRandom);
+        Course[] courses = generateCourses(courseRandom);
+
+        Aggregates aggregates = new Aggregates(options.courses());
+        long start = System.nanoTime();
+        generateEnrollments(new SplittableRandom(enrollmentSeed), aggregates);
+        report("aggregates", aggregates.enrollments + aggregates.feedbacks, start);
+
+        loadCourses(courses, aggregates);
+        loadEnrollments(enrollmentSeed, aggregates.enrollments);
+        loadFeedbacks(enrollmentSeed, aggregates.feedbacks);
+        resetSequences();
+    }
+
+    private void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (options.isPostgres()) {
+                statement.execute("TRUNCATE feedback, enrollment, course, student, instructor, category");
+            } else {
+                for (String table : List.of("feedback", "enrollment", "course", "student", "instructor", "category")) {
+                    statement.execute("DELETE FROM " + table);
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private long maxId(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private RowSink sink(String table, String... columns) throws SQLException {
+        return options.isPostgres()
+                ? new PostgresCopySink(connection, table, List.of(columns))
+                : new JdbcBatchSink(connection, table, List.of(columns), options.batchSize());
+    }
+
+    private static int day(SplittableRandom random, int from) {
+        return from + random.nextInt(LAST_DAY - from + 1);
+    }
+
+    private static LocalDate date(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    private void loadCategories(SplittableRandom random) throws SQLException {
+        long start = System.nanoTime();
+        try (RowSink sink = sink("category", "id", "name", "description")) {
+            for (int i = 0; i < options.categories(); i++) {
+                long id = categoryOffset + i + 1;
+                String topic = TOPICS[i % TOPICS.length];
+                sink.row(id, topic + " " + id, "Courses about " + topic.toLowerCase() + ", track " + (random.nextInt(9) + 1));
+            }
+        }
+        report("category", options.categories(), start);
+    }
+
+    private void loadInstructors(SplittableRandom random) throws SQLException {
+        long start = System.nanoTime();
+        try (RowSink sink = sink("instructor", "id", "name", "email", "bio", "registration_date")) {
+            for (int i = 0; i < options.instructors(); i++) {
+                long id = instructorOffset + i + 1;
+                String first = pick(FIRST_NAMES, random);
+                String last = pick(LAST_NAMES, random);
+                sink.row(id, first + " " + last + " " + id,
+                        (first + "." + last + "." + id + "@instructors.example.edu").toLowerCase(),
+                        "Teaches " + pick(TOPICS, random) + " with " + (random.nextInt(25) + 1) + " years of experience.",
+                        date(day(random, FIRST_DAY)));
+            }
+        }
+        report("instructor", options.instructors(), start);
+    }
+
+    private void loadStudents(SplittableRandom random) throws SQLException {
+        long start = System.nanoTime();
+        studentRegistrationDays = new int[options.students()];
+        try (RowSink sink = sink("student", "id", "name", "email", "date_of_birth", "registration_date")) {
+            for (int i = 0; i < options.students(); i++) {
+                long id = studentOffset + i + 1;
+                String first = pick(FIRST_NAMES, random);
+                String last = pick(LAST_NAMES, random);
+                studentRegistrationDays[i] = day(random, FIRST_DAY);
+                int birthDay = (int) LocalDate.of(1970, 1, 1).toEpochDay() + random.nextInt(35 * 365);
+                sink.row(id, first + " " + last + " " + id,
+                        (first + "." + last + "." + id + "@students.example.edu").toLowerCase(),
+                        date(birthDay), date(studentRegistrationDays[i]));
+            }
+        }
+        report("student", options.students(), start);
+    }
+
+    private record Course(long instructorId, long categoryId, String title, String description,
+                          int duration, int price) {}
+
+    private Course[] generateCourses(SplittableRandom random) {
+        ZipfSampler instructors = new ZipfSampler(options.instructors(), options.skew(), random);
+        ZipfSampler categories = new ZipfSampler(options.categories(), options.skew(), random);
+        Course[] courses = new Course[options.courses()];
+        courseCreationDays = new int[options.courses()];
+        courseQuality = new double[options.courses()];
+        for (int i = 0; i < courses.length; i++) {
+            int category = categories.next(random);
+            String topic = TOPICS[category % TOPICS.length];
+            courseCreationDays[i] = day(random, FIRST_DAY);
+            courseQuality[i] = 2.5 + random.nextDouble() * 2.3;
+            courses[i] = new Course(instructorOffset + instructors.next(random) + 1, categoryOffset + category + 1,
+                    pick(TITLE_PREFIXES, random) + " " + topic + pick(TITLE_SUFFIXES, random),
+                    "A course on " + topic.toLowerCase() + ".",
+                    1 + (int) Math.min(200, -Math.log(1 - random.nextDouble()) * 20),
+                    PRICES[random.nextInt(PRICES.length)]);
+        }
+        return courses;
+    }
+
+    private void loadCourses(Course[] courses, Aggregates aggregates) throws SQLException {
+        long start = System.nanoTime();
+        try (RowSink sink = sink("course", "id", "title", "description", "duration", "price", "instructor_id",
+                "category_id", "total_enrollments", "average_rating", "rating_sum", "rating_count", "creation_date")) {
+            for (int i = 0; i < courses.length; i++) {
+                Course course = courses[i];
+                int ratingCount = aggregates.ratingCounts[i];
+                double ratingSum = aggregates.ratingSums[i];
+                sink.row(courseOffset + i + 1, course.title(), course.description(), course.duration(), course.price(),
+                        course.instructorId(), course.categoryId(), aggregates.enrollmentCounts[i],
+                        ratingCount == 0 ? 0.0 : ratingSum / ratingCount, ratingSum, ratingCount,
+                        date(courseCreationDays[i]));
+            }
+        }
+        report("course", courses.length, start);
+    }
+
+    private void loadEnrollments(long seed, long expected) throws SQLException {
+        long start = System.nanoTime();
+        try (RowSink sink = sink("enrollment", "id", "student_id", "course_id", "enrollment_date", "completion_status")) {
+            generateEnrollments(new SplittableRandom(seed), new Visitor() {
+                @Override
+                public void enrollment(long id, int student, int course, int day, boolean completed) throws SQLException {
+                    sink.row(enrollmentOffset + id, studentOffset + student + 1, courseOffset + course + 1,
+                            date(day), completed);
+                }
+            });
+        }
+        report("enrollment", expected, start);
+    }
+
+    private void loadFeedbacks(long seed, long expected) throws SQLException {
+        long start = System.nanoTime();
+        try (RowSink sink = sink("feedback", "id", "student_id", "course_id", "rating", "comment", "feedback_date")) {
+            generateEnrollments(new SplittableRandom(seed), new Visitor() {
+                @Override
+                public void feedback(long id, int student, int course, double rating, String comment, int day)
+                        throws SQLException {
+                    sink.row(feedbackOffset + id, studentOffset + student + 1, courseOffset + course + 1,
+                            rating, comment, date(day));
+                }
+            });
+        }
+        report("feedback", expected, start);
+    }
+
+    /**
+     * Receives the generated enrollments and feedbacks. Indexes are zero-based, IDs start at 1.
+     */
+    private interface Visitor {
+        default void enrollment(long id, int student, int course, int day, boolean completed) throws SQLException {}
+
+        default void feedback(long id, int student, int course, double rating, String comment, int day)
+                throws SQLException {}
+    }
+
+    private static final class Aggregates implements Visitor {
+        final int[] enrollmentCounts;
+        final double[] ratingSums;
+        final int[] ratingCounts;
+        long enrollments;
+        long feedbacks;
+
+        Aggregates(int courses) {
+            enrollmentCounts = new int[courses];
+            ratingSums = new double[courses];
+            ratingCounts = new int[courses];
+        }
+
+        @Override
+        public void enrollment(long id, int student, int course, int day, boolean completed) {
+            enrollmentCounts[course]++;
+            enrollments++;
+        }
+
+        @Override
+        public void feedback(long id, int student, int course, double rating, String comment, int day) {
+            ratingSums[course] += rating;
+            ratingCounts[course]++;
+            feedbacks++;
+        }
+    }
+
+    /**
+     * Generates every enrollment and feedback. The same seed always produces the same sequence, which is what
+     * lets the loader run this more than once instead of keeping the rows in memory.
+     */
+    private void generateEnrollments(SplittableRandom random, Visitor visitor) throws SQLException {
+        ZipfSampler popularity = new ZipfSampler(options.courses(), options.skew(), random);
+        double meanPerStudent = (double) options.enrollments() / options.students();
+        double feedbackProbability = options.enrollments() == 0 ? 0 : (double) options.feedbacks() / options.enrollments();
+        int maxPerStudent = Math.min(MAX_ENROLLMENTS_PER_STUDENT, options.courses());
+        int[] picked = new int[maxPerStudent];
+        long enrollmentId = 0;
+        long feedbackId = 0;
+
+        for (int student = 0; student < options.students(); student++) {
+            int wanted = (int) Math.min(maxPerStudent, Math.round(-Math.log(1 - random.nextDouble()) * meanPerStudent));
+            int count = 0;
+            // Popular courses are drawn again and again; give up on a student's last picks rather than spin.
+            for (int attempts = 0; count < wanted && attempts < wanted * 10; attempts++) {
+                int course = popularity.next(random);
+                if (!contains(picked, count, course)) {
+                    picked[count++] = course;
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                int course = picked[i];
+                int enrolledDay = day(random, Math.max(studentRegistrationDays[student], courseCreationDays[course]));
+                visitor.enrollment(++enrollmentId, student, course, enrolledDay, random.nextDouble() < COMPLETION_RATE);
+                if (random.nextDouble() < feedbackProbability) {
+                    double rating = Math.max(1, Math.min(5, Math.round(courseQuality[course] + random.nextGaussian() * 0.9)));
+                    visitor.feedback(++feedbackId, student, course, rating, pick(COMMENTS, random), day(random, enrolledDay));
+                }
+            }
+        }
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves each ID sequence past the loaded rows. Hibernate's pooled optimizer hands out the 50 IDs ending at the
+     * value it draws, so the next value drawn must be the maximum ID plus 50, as set up by
+     * `V8.0812__create_id_sequences.sql`.
+     */
+    private void resetSequences() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("student", "instructor", "category", "course", "enrollment", "feedback")) {
+                long maxId = maxId(table);
+                if (options.isPostgres()) {
+                    statement.execute("SELECT setval('" + table + "_seq', " + Math.max(maxId, 1) + ")");
+                } else {
+                    statement.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + (maxId + 50));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private static void report(String table, long rows, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("%-12s %,14d rows %10.1f s %,14.0f rows/s%n", table, rows, seconds, rows / Math.max(seconds, 1e-9));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.learning_platform.datagen;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Loads rows with a prepared `INSERT` sent as JDBC batches, committing after every batch.
+ * Used for H2 and any database without a bulk-load protocol.
+ */
+final class JdbcBatchSink implements RowSink {
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+
+    JdbcBatchSink(Connection connection, String table, List<String> columns, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                + ") VALUES (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")");
+    }
+
+    @Override
+    public void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            statement.setObject(i + 1, value instanceof LocalDate date ? Date.valueOf(date) : value);
+        }
+        statement.addBatch();
+        if (++pending == batchSize) {
+            flush();
+        }
+    }
+
+    private void flush() throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+        pending = 0;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (pending > 0) {
+                flush();
+            }
+        } finally {
+            statement.close();
+        }
+    }
+}
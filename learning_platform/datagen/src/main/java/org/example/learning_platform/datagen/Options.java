@@ -0,0 +1,68 @@
+package org.example.learning_platform.datagen;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options of the dataset generator, given as `--name=value`.
+ * Row counts default to a production-like volume; enrollment and feedback counts are targets that the generated
+ * data matches on average, since both are drawn per student.
+ *
+ * @param url         the JDBC URL of the target database.
+ * @param user        the database user.
+ * @param password    the database password.
+ * @param seed        the random seed; equal seeds generate identical datasets.
+ * @param students    the number of students.
+ * @param instructors the number of instructors.
+ * @param categories  the number of categories.
+ * @param courses     the number of courses.
+ * @param enrollments the target number of enrollments.
+ * @param feedbacks   the target number of feedbacks, drawn from the enrollments.
+ * @param skew        the Zipf exponent of course, instructor and category popularity.
+ * @param batchSize   the number of rows per JDBC batch and per commit.
+ * @param truncate    whether to empty the tables before loading.
+ */
+record Options(String url, String user, String password, long seed,
+               int students, int instructors, int categories, int courses,
+               long enrollments, long feedbacks, double skew, int batchSize, boolean truncate) {
+
+    static Options parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        Options options = new Options(
+                values.getOrDefault("url", "jdbc:h2:file:./data/brain_rush;AUTO_SERVER=TRUE"),
+                values.getOrDefault("user", "sa"),
+                values.getOrDefault("password", ""),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("students", "1000000")),
+                Integer.parseInt(values.getOrDefault("instructors", "5000")),
+                Integer.parseInt(values.getOrDefault("categories", "100")),
+                Integer.parseInt(values.getOrDefault("courses", "50000")),
+                Long.parseLong(values.getOrDefault("enrollments", "20000000")),
+                Long.parseLong(values.getOrDefault("feedbacks", "5000000")),
+                Double.parseDouble(values.getOrDefault("skew", "1.1")),
+                Integer.parseInt(values.getOrDefault("batch-size", "10000")),
+                Boolean.parseBoolean(values.getOrDefault("truncate", "false")));
+        if (options.students < 1 || options.instructors < 1 || options.categories < 1 || options.courses < 1) {
+            throw new IllegalArgumentException("Every table needs at least one row.");
+        }
+        if (options.feedbacks > options.enrollments) {
+            throw new IllegalArgumentException("Feedbacks are drawn from enrollments, so there cannot be more of them.");
+        }
+        return options;
+    }
+
+    boolean isPostgres() {
+        return url.startsWith("jdbc:postgresql:");
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.learning_platform.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Streams rows into PostgreSQL with `COPY ... FROM STDIN` in CSV format, which loads an order of magnitude
+ * faster than batched inserts. Rows are buffered and written to the copy stream in chunks of about 1 MiB;
+ * the whole table is loaded in one transaction.
+ */
+final class PostgresCopySink implements RowSink {
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private final Connection connection;
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(CHUNK_BYTES + 1024);
+
+    PostgresCopySink(Connection connection, String table, List<String> columns) throws SQLException {
+        this.connection = connection;
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)");
+    }
+
+    @Override
+    public void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            appendCsv(values[i]);
+        }
+        buffer.append('\n');
+        if (buffer.length() >= CHUNK_BYTES) {
+            flush();
+        }
+    }
+
+    private void appendCsv(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            buffer.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        } else {
+            buffer.append(value);
+        }
+    }
+
+    private void flush() throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+            copyIn.endCopy();
+            connection.commit();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
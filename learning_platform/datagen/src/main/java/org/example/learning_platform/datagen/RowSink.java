@@ -0,0 +1,18 @@
+package org.example.learning_platform.datagen;
+
+import java.sql.SQLException;
+
+/**
+ * Destination of the generated rows of one table.
+ * Values are `Long`, `Integer`, `Double`, `Boolean`, `String` or `LocalDate`, in the order of the columns.
+ */
+interface RowSink extends AutoCloseable {
+
+    void row(Object... values) throws SQLException;
+
+    /**
+     * Writes the remaining buffered rows and commits them.
+     */
+    @Override
+    void close() throws SQLException;
+}
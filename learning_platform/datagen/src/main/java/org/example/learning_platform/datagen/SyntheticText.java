@@ -0,0 +1,47 @@
+package org.example.learning_platform.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Word lists the generator composes names, titles and comments from.
+ */
+final class SyntheticText {
+    static final String[] FIRST_NAMES = {
+            "Aigerim", "Alikhan", "Amina", "Arman", "Aruzhan", "Asel", "Daniyar", "Dana", "Emma", "Ethan",
+            "Farida", "Gulnara", "Hannah", "Ivan", "Jamal", "Julia", "Kairat", "Laura", "Liam", "Madina",
+            "Marat", "Maria", "Mei", "Nurlan", "Olivia", "Omar", "Pavel", "Priya", "Ravi", "Saule",
+            "Sofia", "Timur", "Tomiris", "Yerlan", "Yuki", "Zarina", "Noah", "Lucas", "Chloe", "Ali"
+    };
+    static final String[] LAST_NAMES = {
+            "Abenov", "Akhmetova", "Baker", "Bekova", "Chen", "Dzhaksybekov", "Garcia", "Ibraimov", "Ivanova",
+            "Kaliyev", "Kim", "Kozhakhmetov", "Lee", "Lopez", "Mukhametov", "Muller", "Nazarbayeva", "Nguyen",
+            "Omarov", "Patel", "Petrov", "Rossi", "Sadykova", "Satpayev", "Schmidt", "Seitkali", "Smith",
+            "Suleimenov", "Tanaka", "Tokayeva", "Wang", "Yilmaz", "Zhakupov", "Zhumabayeva"
+    };
+    static final String[] TOPICS = {
+            "Programming", "Data Science", "Machine Learning", "Databases", "Web Development", "Mobile Development",
+            "Cloud Computing", "Cyber Security", "Networking", "Design", "Marketing", "Finance", "Accounting",
+            "Mathematics", "Statistics", "Physics", "Chemistry", "Biology", "Languages", "Music", "Photography",
+            "Writing", "Management", "Entrepreneurship", "Psychology"
+    };
+    static final String[] TITLE_PREFIXES = {
+            "Introduction to", "Foundations of", "Applied", "Advanced", "Practical", "Modern", "Hands-on",
+            "Mastering", "Essentials of", "Crash Course in"
+    };
+    static final String[] TITLE_SUFFIXES = {
+            "", "", "", " for Beginners", " in Practice", " Bootcamp", " with Projects", " Deep Dive", ": Part II"
+    };
+    static final String[] COMMENTS = {
+            "Great course, very well structured.", "Clear explanations and useful exercises.",
+            "Too fast in the second half.", "Exactly what I needed for work.", "Good content but outdated examples.",
+            "The instructor is excellent.", "Could use more practice material.", "Not worth the price.",
+            "Loved the projects.", "Solid introduction, would recommend.", "Hard to follow at times.", ""
+    };
+    static final int[] PRICES = {0, 0, 9, 19, 19, 29, 49, 49, 99, 199};
+
+    private SyntheticText() {}
+
+    static String pick(String[] words, SplittableRandom random) {
+        return words[random.nextInt(words.length)];
+    }
+}
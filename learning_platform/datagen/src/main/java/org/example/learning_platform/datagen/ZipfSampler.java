@@ -0,0 +1,45 @@
+package org.example.learning_platform.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks `0..n-1` with Zipf-distributed probability `1 / (rank + 1)^skew`, so a few ranks are drawn
+ * very often and the long tail rarely, like the popularity of courses on a real catalog.
+ * Ranks are mapped through a seeded permutation, so popular items are spread over the ID range instead of
+ * being the lowest IDs.
+ */
+final class ZipfSampler {
+    private final double[] cumulative;
+    private final int[] items;
+
+    ZipfSampler(int n, double skew, SplittableRandom random) {
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+        items = new int[n];
+        for (int i = 0; i < n; i++) {
+            items[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int item = items[i];
+            items[i] = items[j];
+            items[j] = item;
+        }
+    }
+
+    /**
+     * Draws an item index in `0..n-1`.
+     */
+    int next(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        return items[Math.min(rank < 0 ? -rank - 1 : rank, items.length - 1)];
+    }
+}
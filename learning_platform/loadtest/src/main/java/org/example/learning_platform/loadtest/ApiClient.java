@@ -0,0 +1,149 @@
+package org.example.learning_platform.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Builds and sends the requests of each scenario.
+ * Parameters are drawn from the courses and students that exist in the application, sampled once at startup
+ * through the cursor-paginated endpoints, so every request hits real rows.
+ */
+final class ApiClient {
+    private static final int SAMPLE_PAGES = 20;
+    private static final int PAGE_SIZE = 500;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadOptions options;
+    private final List<Long> courseIds = new ArrayList<>();
+    private final List<String> courseTitles = new ArrayList<>();
+    private final List<String> studentNames = new ArrayList<>();
+    private String accessToken;
+
+    ApiClient(LoadOptions options) {
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Logs in and samples the courses and students the scenarios pick their parameters from.
+     */
+    void prepare() throws IOException, InterruptedException {
+        HttpResponse<String> login = httpClient.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + options.username() + " failed with status " + login.statusCode());
+        }
+        accessToken = objectMapper.readTree(login.body()).path("accessToken").asText();
+
+        sample("/course/get-all-courses", course -> {
+            courseIds.add(course.path("id").asLong());
+            courseTitles.add(course.path("title").asText());
+        });
+        sample("/student/sort-by-name", student -> studentNames.add(student.path("name").asText()));
+        if (courseIds.isEmpty() || studentNames.isEmpty()) {
+            throw new IllegalStateException("The application has no courses or students to run the scenarios against.");
+        }
+        System.out.printf("Sampled %d courses and %d students%n", courseIds.size(), studentNames.size());
+    }
+
+    private void sample(String path, Consumer<JsonNode> consumer) throws IOException, InterruptedException {
+        String cursor = null;
+        for (int page = 0; page < SAMPLE_PAGES; page++) {
+            String query = "?limit=" + PAGE_SIZE + (cursor == null ? "" : "&after=" + encode(cursor));
+            HttpResponse<String> response = httpClient.send(authorized(path + query).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            JsonNode data = objectMapper.readTree(response.body()).path("data");
+            data.path("items").forEach(consumer);
+            cursor = data.path("nextCursor").isTextual() ? data.path("nextCursor").asText() : null;
+            if (cursor == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Builds the request of one scenario with randomly drawn parameters.
+     */
+    HttpRequest request(Scenario scenario, SplittableRandom random) {
+        return switch (scenario) {
+            case BROWSE -> authorized("/course/get-all-courses").GET().build();
+            case SEARCH -> authorized("/course/get-course-by-name/" + encode(pick(courseTitles, random))).GET().build();
+            case ENROLL -> post("/enrollment/create-enrollment", Map.of(
+                    "studentName", pick(studentNames, random),
+                    "courseId", pick(courseIds, random)));
+            case FEEDBACK -> post("/feedback/create-feedback", Map.of(
+                    "studentName", pick(studentNames, random),
+                    "courseId", pick(courseIds, random),
+                    "rating", (double) (1 + random.nextInt(5)),
+                    "comment", "Load test feedback",
+                    "feedbackDate", LocalDate.now().toString()));
+            case LOGIN -> loginRequest();
+        };
+    }
+
+    /**
+     * Sends a request without reading the body into memory.
+     *
+     * @return the status code.
+     */
+    int send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest loginRequest() {
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/auth/login"))
+                .timeout(options.timeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(Map.of(
+                        "username", options.username(), "password", options.password()))))
+                .build();
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body) {
+        return authorized(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl() + path)).timeout(options.timeout());
+        return accessToken == null ? builder : builder.header("Authorization", "Bearer " + accessToken);
+    }
+
+    private String json(Map<String, ?> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException exception) {
+            throw new IllegalArgumentException(exception);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.learning_platform.loadtest;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed workload model: a fixed population of users, each on its own virtual thread, sends a request, waits for
+ * the response, optionally thinks, and repeats. Throughput follows from latency, so this model answers
+ * "how fast is it with N concurrent users" but hides queueing delay when the application slows down.
+ */
+final class ClosedWorkload extends Workload {
+    private final Duration thinkTime;
+    private final SplittableRandom seeds;
+
+    ClosedWorkload(ApiClient apiClient, LatencyRecorder recorder, LoadOptions options) {
+        super(apiClient, recorder, options);
+        this.thinkTime = options.thinkTime();
+        this.seeds = new SplittableRandom(options.seed());
+    }
+
+    @Override
+    void run(int users, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                SplittableRandom random = seeds.split();
+                executor.submit(() -> {
+                    while (System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted()) {
+                        Scenario scenario = nextScenario(random);
+                        execute(scenario, apiClient.request(scenario, random), System.nanoTime());
+                        if (!thinkTime.isZero()) {
+                            LockSupport.parkNanos((long) (-Math.log(1 - random.nextDouble()) * thinkTime.toNanos()));
+                        }
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.learning_platform.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency and outcome of every request, per scenario.
+ * Latencies go into HdrHistogram `Recorder`s in microseconds, which take values from any number of threads
+ * without locking and hand out interval histograms, so a step's warmup is simply discarded by reading once.
+ */
+final class LatencyRecorder {
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<Scenario, Recorder> recorders = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder[]> outcomes = new EnumMap<>(Scenario.class);
+    private final LongAdder dropped = new LongAdder();
+
+    LatencyRecorder() {
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            LongAdder[] counters = new LongAdder[Outcome.values().length];
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = new LongAdder();
+            }
+            outcomes.put(scenario, counters);
+        }
+    }
+
+    /**
+     * How a request ended. `REJECTED` is a `503` from the connection admission limit, `FAILED` a timeout or I/O error.
+     */
+    enum Outcome { OK, CLIENT_ERROR, SERVER_ERROR, REJECTED, FAILED }
+
+    static Outcome outcomeOf(int status) {
+        if (status == 503) {
+            return Outcome.REJECTED;
+        }
+        if (status >= 500) {
+            return Outcome.SERVER_ERROR;
+        }
+        return status >= 400 ? Outcome.CLIENT_ERROR : Outcome.OK;
+    }
+
+    void record(Scenario scenario, long latencyNanos, Outcome outcome) {
+        recorders.get(scenario).recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        outcomes.get(scenario)[outcome.ordinal()].increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Returns everything recorded since the previous call and starts a new interval.
+     */
+    Interval interval() {
+        Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+        Map<Scenario, long[]> counts = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            histograms.put(scenario, recorders.get(scenario).getIntervalHistogram());
+            LongAdder[] counters = outcomes.get(scenario);
+            long[] values = new long[counters.length];
+            for (int i = 0; i < counters.length; i++) {
+                values[i] = counters[i].sumThenReset();
+            }
+            counts.put(scenario, values);
+        }
+        return new Interval(histograms, counts, dropped.sumThenReset());
+    }
+
+    /**
+     * The latencies and outcomes of one measurement interval.
+     */
+    record Interval(Map<Scenario, Histogram> histograms, Map<Scenario, long[]> outcomes, long dropped) {
+
+        Histogram total() {
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            histograms.values().forEach(total::add);
+            return total;
+        }
+
+        long count(Outcome outcome) {
+            return outcomes.values().stream().mapToLong(values -> values[outcome.ordinal()]).sum();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.learning_platform.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command-line options of the load test, given as `--name=value`.
+ *
+ * @param baseUrl      the URL the application listens on.
+ * @param username     the user the virtual users log in as; required.
+ * @param password     the password of that user; required.
+ * @param model        `closed` for a fixed number of users looping, `open` for a fixed arrival rate.
+ * @param steps        the load levels to run one after another: users for the closed model, requests per second
+ *                     for the open model.
+ * @param warmup       how long each step runs before measuring.
+ * @param duration     how long each step is measured.
+ * @param thinkTime    the mean pause of a closed-model user between requests, exponentially distributed.
+ * @param poisson      whether open-model arrivals are Poisson instead of evenly spaced.
+ * @param maxInFlight  the open-model cap on outstanding requests; arrivals beyond it are counted as dropped.
+ * @param timeout      the request timeout.
+ * @param mix          the relative weight of each scenario.
+ * @param reportDir    where the throughput curve and the per-step histograms are written.
+ * @param seed         the seed of the scenario and parameter choices.
+ */
+record LoadOptions(String baseUrl, String username, String password, String model, int[] steps,
+                   Duration warmup, Duration duration, Duration thinkTime, boolean poisson, int maxInFlight,
+                   Duration timeout, Map<Scenario, Integer> mix, Path reportDir, long seed) {
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        String model = values.getOrDefault("model", "closed");
+        if (!model.equals("closed") && !model.equals("open")) {
+            throw new IllegalArgumentException("--model must be closed or open.");
+        }
+        return new LoadOptions(
+                values.getOrDefault("base-url", "http://localhost:8888"),
+                required(values, "username"),
+                required(values, "password"),
+                model,
+                Arrays.stream(values.getOrDefault("steps", model.equals("closed") ? "100,1000,10000" : "100,500,1000,2000")
+                        .split(",")).mapToInt(Integer::parseInt).toArray(),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("think-time-ms", "0"))),
+                Boolean.parseBoolean(values.getOrDefault("poisson", "true")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "20000")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout", "30"))),
+                parseMix(values.getOrDefault("mix", "browse:40,search:30,enroll:15,feedback:10,login:5")),
+                Path.of(values.getOrDefault("report-dir", "target/loadtest")),
+                Long.parseLong(values.getOrDefault("seed", "42")));
+    }
+
+    /**
+     * Returns an option that has no default, such as the credentials of the load test user.
+     */
+    private static String required(Map<String, String> values, String name) {
+        String value = values.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("--" + name + " is required. Register the load test user with "
+                    + "POST /api/auth/register first and pass its credentials.");
+        }
+        return value;
+    }
+
+    /**
+     * Parses a scenario mix such as `browse:40,search:30`. Scenarios left out are not run.
+     */
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(Scenario.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    boolean isClosed() {
+        return model.equals("closed");
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.learning_platform.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Drives the running application through a series of load steps and reports latency and throughput.
+ * Every step first runs for the warmup time, whose results are discarded, and is then measured.
+ * For each step the console shows throughput, error rate and latency percentiles, the throughput curve is written
+ * to `curve.csv`, and the full latency distribution of every scenario is written as an `.hgrm` file that can be
+ * plotted with the HdrHistogram plotter. The run passes if the 99th percentile of every step stays under the
+ * 2 second response time target.
+ *
+ * <p>The virtual users share one account, which has to be registered before the first run:
+ * <pre>
+ * curl -X POST http://localhost:8888/api/auth/register -H 'Content-Type: application/json' \
+ *      -d '{"email": "loadtest@example.org", "name": "Load Test", "password": "..."}'
+ * </pre>
+ * <p>Example: {@code java -jar loadtest.jar --username=loadtest@example.org --password=... --model=open
+ * --steps=200,400,800 --duration=120}
+ * 10k users need an open-file limit above 10k on both sides (`ulimit -n`).
+ */
+public final class LoadTest {
+    static final Duration P99_TARGET = Duration.ofSeconds(2);
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        ApiClient apiClient = new ApiClient(options);
+        apiClient.prepare();
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        Workload workload = Workload.of(options, apiClient, recorder);
+        Files.createDirectories(options.reportDir());
+        String unit = options.isClosed() ? "users" : "req/s";
+
+        boolean passed = true;
+        try (PrintWriter curve = new PrintWriter(Files.newBufferedWriter(options.reportDir().resolve("curve.csv")))) {
+            curve.println("model,load,throughput,ok,client_errors,server_errors,rejected,failed,dropped,p50_ms,p99_ms,p999_ms,max_ms");
+            System.out.printf("%n%-8s %10s %10s %8s %10s %10s %10s %10s%n",
+                    "model", unit, "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (int level : options.steps()) {
+                workload.run(level, options.warmup());
+                recorder.interval();
+                workload.run(level, options.duration());
+                LatencyRecorder.Interval interval = recorder.interval();
+
+                Histogram total = interval.total();
+                double throughput = total.getTotalCount() / (double) options.duration().toSeconds();
+                long errors = total.getTotalCount() - interval.count(LatencyRecorder.Outcome.OK) + interval.dropped();
+                double errorRate = total.getTotalCount() + interval.dropped() == 0
+                        ? 0 : 100.0 * errors / (total.getTotalCount() + interval.dropped());
+                System.out.printf(Locale.ROOT, "%-8s %10d %10.1f %7.2f%% %10.1f %10.1f %10.1f %10.1f%n",
+                        options.model(), level, throughput, errorRate,
+                        millis(total, 50), millis(total, 99), millis(total, 99.9), total.getMaxValue() / 1000.0);
+                curve.printf(Locale.ROOT, "%s,%d,%.1f,%d,%d,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f%n",
+                        options.model(), level, throughput,
+                        interval.count(LatencyRecorder.Outcome.OK),
+                        interval.count(LatencyRecorder.Outcome.CLIENT_ERROR),
+                        interval.count(LatencyRecorder.Outcome.SERVER_ERROR),
+                        interval.count(LatencyRecorder.Outcome.REJECTED),
+                        interval.count(LatencyRecorder.Outcome.FAILED),
+                        interval.dropped(),
+                        millis(total, 50), millis(total, 99), millis(total, 99.9), total.getMaxValue() / 1000.0);
+                curve.flush();
+                writeHistograms(options.reportDir(), options.model() + "-" + level, interval.histograms());
+
+                passed &= total.getTotalCount() == 0
+                        || total.getValueAtPercentile(99) < P99_TARGET.toNanos() / 1000;
+            }
+        }
+        System.out.printf("%n%s: p99 %s %d ms at every step. Reports in %s%n",
+                passed ? "PASS" : "FAIL", passed ? "under" : "not under",
+                P99_TARGET.toMillis(), options.reportDir().toAbsolutePath());
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Writes the latency distribution of every scenario that ran, in milliseconds.
+     */
+    private static void writeHistograms(Path directory, String step, Map<Scenario, Histogram> histograms)
+            throws IOException {
+        for (Map.Entry<Scenario, Histogram> entry : histograms.entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(step + "-" + entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream output = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(output, 1000.0);
+            }
+        }
+    }
+}
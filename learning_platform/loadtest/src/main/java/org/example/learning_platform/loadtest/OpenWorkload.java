@@ -0,0 +1,59 @@
+package org.example.learning_platform.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open workload model: requests arrive at a fixed rate regardless of how fast earlier ones complete, as they do
+ * from a large population of independent clients. Each arrival runs on its own virtual thread, and latency is
+ * measured from the arrival's scheduled time rather than the time it was actually sent, so a stalled application
+ * shows up as latency instead of silently lowering the offered load (coordinated omission).
+ */
+final class OpenWorkload extends Workload {
+    private final boolean poisson;
+    private final Semaphore inFlight;
+    private final SplittableRandom random;
+
+    OpenWorkload(ApiClient apiClient, LatencyRecorder recorder, LoadOptions options) {
+        super(apiClient, recorder, options);
+        this.poisson = options.poisson();
+        this.inFlight = new Semaphore(options.maxInFlight());
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    @Override
+    void run(int requestsPerSecond, Duration duration) {
+        double meanIntervalNanos = 1e9 / requestsPerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double next = start;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (next < end) {
+                long scheduled = (long) next;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Scenario scenario = nextScenario(random);
+                HttpRequest request = apiClient.request(scenario, random);
+                if (inFlight.tryAcquire()) {
+                    executor.submit(() -> {
+                        try {
+                            execute(scenario, request, scheduled);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } else {
+                    recorder.recordDropped();
+                }
+                next += poisson ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+            }
+        }
+    }
+}
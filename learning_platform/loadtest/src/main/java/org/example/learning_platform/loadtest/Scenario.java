@@ -0,0 +1,17 @@
+package org.example.learning_platform.loadtest;
+
+/**
+ * The user actions the load test replays, each against one real endpoint.
+ */
+enum Scenario {
+    /** Lists the catalog, `GET /course/get-all-courses`. */
+    BROWSE,
+    /** Looks a course up by title, `GET /course/get-course-by-name/{name}`. */
+    SEARCH,
+    /** Enrolls a student in a course, `POST /enrollment/create-enrollment`. */
+    ENROLL,
+    /** Rates a course, `POST /feedback/create-feedback`. */
+    FEEDBACK,
+    /** Signs in, `POST /api/auth/login`. */
+    LOGIN
+}
@@ -0,0 +1,60 @@
+package org.example.learning_platform.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.SplittableRandom;
+
+/**
+ * A way of offering load to the application for a given time.
+ */
+abstract class Workload {
+    protected final ApiClient apiClient;
+    protected final LatencyRecorder recorder;
+    private final Scenario[] weightedScenarios;
+
+    protected Workload(ApiClient apiClient, LatencyRecorder recorder, LoadOptions options) {
+        this.apiClient = apiClient;
+        this.recorder = recorder;
+        this.weightedScenarios = options.mix().entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Scenario[]::new);
+        if (weightedScenarios.length == 0) {
+            throw new IllegalArgumentException("The scenario mix is empty.");
+        }
+    }
+
+    /**
+     * Offers load at the given level until the duration has passed and all requests have completed.
+     *
+     * @param level    the number of users for the closed model, the requests per second for the open model.
+     * @param duration how long to offer load.
+     */
+    abstract void run(int level, Duration duration) throws InterruptedException;
+
+    protected Scenario nextScenario(SplittableRandom random) {
+        return weightedScenarios[random.nextInt(weightedScenarios.length)];
+    }
+
+    /**
+     * Sends one request and records its latency measured from `startNanos`.
+     */
+    protected void execute(Scenario scenario, HttpRequest request, long startNanos) {
+        LatencyRecorder.Outcome outcome;
+        try {
+            outcome = LatencyRecorder.outcomeOf(apiClient.send(request));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception exception) {
+            outcome = LatencyRecorder.Outcome.FAILED;
+        }
+        recorder.record(scenario, System.nanoTime() - startNanos, outcome);
+    }
+
+    static Workload of(LoadOptions options, ApiClient apiClient, LatencyRecorder recorder) {
+        return options.isClosed()
+                ? new ClosedWorkload(apiClient, recorder, options)
+                : new OpenWorkload(apiClient, recorder, options);
+    }
+}
@@ -2,6 +2,7 @@ package org.example.learning_platform.controller;
 
 import org.example.learning_platform.entity.User;
 import org.example.learning_platform.repository.UserRepository;
+import org.example.learning_platform.security.JwtUtils;
 import org.example.learning_platform.service.RefreshTokenService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
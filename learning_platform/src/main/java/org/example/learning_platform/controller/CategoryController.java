@@ -3,10 +3,15 @@ package org.example.learning_platform.controller;
 import org.example.learning_platform.dto.CategoryDto;
 import org.example.learning_platform.dto.Response;
 import org.example.learning_platform.service.CategoryService;
+import org.example.learning_platform.utils.cache.TableVersions;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing categories.
@@ -15,14 +20,17 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping(value = "/category")
 public class CategoryController {
     private final CategoryService categoryService;
+    private final TableVersions tableVersions;
 
     /**
      * Constructor for CategoryController.
      *
      * @param categoryService the service for handling category operations.
+     * @param tableVersions   the version counters the category list ETag is built from.
      */
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, TableVersions tableVersions) {
         this.categoryService = categoryService;
+        this.tableVersions = tableVersions;
     }
 
     /**
@@ -43,13 +51,23 @@ public class CategoryController {
 
     /**
      * Retrieves all categories.
+     * The response carries an ETag built from the category table version; a request whose `If-None-Match`
+     * holds the current ETag is answered with `304 Not Modified` without building the list.
      *
+     * @param ifNoneMatch the ETag of the client's cached copy; optional.
      * @return a ResponseEntity containing a Response object with a list of all categories or an error message.
      */
     @GetMapping("/get-all-category")
-    public ResponseEntity<Response> getAllCategory() {
+    public ResponseEntity<Response> getAllCategory(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = tableVersions.etag(TableVersions.Table.CATEGORY);
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (TableVersions.notModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved all Categories.", categoryService.getAllCategories()));
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl)
+                    .body(new Response("Successfully retrieved all Categories.", categoryService.getAllCategories()));
         } catch (ObjectNotFoundException exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Couldn't find any Categories. " + exception.getMessage(), null));
         }
@@ -95,4 +113,16 @@ public class CategoryController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Couldn't find any Categories. " + exception.getMessage(), null));
         }
     }
+
+    /**
+     * Exports all categories as newline-delimited JSON.
+     * The response is streamed while rows are read from the database, instead of being built as one list.
+     *
+     * @return a ResponseEntity whose body writes one JSON object per category per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        StreamingResponseBody body = categoryService::exportCategories;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
@@ -2,10 +2,15 @@ package org.example.learning_platform.controller;
 
 import org.example.learning_platform.dto.*;
 import org.example.learning_platform.service.CourseService;
+import org.example.learning_platform.utils.cache.TableVersions;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -16,14 +21,17 @@ import java.util.List;
 @RequestMapping(value = "/course")
 public class CourseController {
     private final CourseService courseService;
+    private final TableVersions tableVersions;
 
     /**
      * Constructor for CourseController.
      *
      * @param courseService the service for handling course operations.
+     * @param tableVersions the version counters the course list ETag is built from.
      */
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, TableVersions tableVersions) {
         this.courseService = courseService;
+        this.tableVersions = tableVersions;
     }
 
     /**
@@ -43,16 +51,52 @@ public class CourseController {
     }
 
     /**
-     * Retrieves all courses.
+     * Searches courses by title, description, category name and instructor name, ranked by relevance.
      *
-     * @return a ResponseEntity containing a Response object with a list of all courses or an error message.
+     * @param q     the search text.
+     * @param limit the maximum number of results; optional.
+     * @return a ResponseEntity containing a Response object with the ranked courses and their scores or an error message.
+     */
+    @GetMapping(value = "/search")
+    public ResponseEntity<Response> searchCourses(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        try {
+            List<CourseSearchResultDto> results = courseService.searchCourses(q, limit);
+            return ResponseEntity.ok(new Response("Successfully searched Courses.", results));
+        } catch (Exception exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Failed to search Courses. " + exception.getMessage(), null));
+        }
+    }
+
+    /**
+     * Retrieves all courses, or one page of them ordered by ID when a cursor or limit is given.
+     * The response carries an ETag built from the course, instructor and category table versions; a request whose
+     * `If-None-Match` holds the current ETag is answered with `304 Not Modified` before any data is loaded.
+     *
+     * @param after       the opaque cursor returned with the previous page; optional.
+     * @param limit       the maximum number of courses on the page; optional.
+     * @param ifNoneMatch the ETag of the client's cached copy; optional.
+     * @return a ResponseEntity containing a Response object with a list or a page of courses or an error message.
      */
     @GetMapping("/get-all-courses")
-    public ResponseEntity<Response> getAllCourse() {
+    public ResponseEntity<Response> getAllCourse(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = tableVersions.etag(TableVersions.Table.COURSE, TableVersions.Table.INSTRUCTOR, TableVersions.Table.CATEGORY);
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (TableVersions.notModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved all Courses.", courseService.getAllCourses()));
+            if (after == null && limit == null) {
+                return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl)
+                        .body(new Response("Successfully retrieved all Courses.", courseService.getAllCourses()));
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl)
+                    .body(new Response("Successfully retrieved Courses.", courseService.getCoursesPage(after, limit)));
         } catch (ObjectNotFoundException exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Couldn't find any Courses. " + exception.getMessage(), null));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Invalid page request. " + exception.getMessage(), null));
         }
     }
 
@@ -136,12 +180,13 @@ public class CourseController {
     /**
      * Retrieves and sorts courses by duration.
      *
+     * @param limit the maximum number of courses to return; optional, all courses when absent.
      * @return a ResponseEntity containing a Response object with a sorted list of courses by duration or an error message.
      */
     @GetMapping(value = "/sort-by-duration")
-    public ResponseEntity<Response> sortByDuration() {
+    public ResponseEntity<Response> sortByDuration(@RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved Courses.", courseService.sortByDuration()));
+            return ResponseEntity.ok(new Response("Successfully retrieved Courses.", courseService.sortByDuration(limit)));
         } catch (Exception exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Failed to retrieve Courses. " + exception.getMessage(), null));
         }
@@ -150,12 +195,13 @@ public class CourseController {
     /**
      * Retrieves and sorts courses by price.
      *
+     * @param limit the maximum number of courses to return; optional, all courses when absent.
      * @return a ResponseEntity containing a Response object with a sorted list of courses by price or an error message.
      */
     @GetMapping(value = "/sort-by-price")
-    public ResponseEntity<Response> sortByPrice() {
+    public ResponseEntity<Response> sortByPrice(@RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved Courses.", courseService.sortByPrice()));
+            return ResponseEntity.ok(new Response("Successfully retrieved Courses.", courseService.sortByPrice(limit)));
         } catch (Exception exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Failed to retrieve Courses. " + exception.getMessage(), null));
         }
@@ -164,12 +210,13 @@ public class CourseController {
     /**
      * Retrieves and sorts courses by enrollments.
      *
+     * @param limit the maximum number of courses to return; optional, all courses when absent.
      * @return a ResponseEntity containing a Response object with a sorted list of courses by enrollments or an error message.
      */
     @GetMapping(value = "/sort-by-enrollments")
-    public ResponseEntity<Response> sortByEnrollments() {
+    public ResponseEntity<Response> sortByEnrollments(@RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved Courses.", courseService.sortByEnrollments()));
+            return ResponseEntity.ok(new Response("Successfully retrieved Courses.", courseService.sortByEnrollments(limit)));
         } catch (Exception exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Failed to retrieve Courses. " + exception.getMessage(), null));
         }
@@ -178,14 +225,27 @@ public class CourseController {
     /**
      * Retrieves and sorts courses by rating.
      *
+     * @param limit the maximum number of courses to return; optional, all courses when absent.
      * @return a ResponseEntity containing a Response object with a sorted list of courses by rating or an error message.
      */
     @GetMapping(value = "/sort-by-rating")
-    public ResponseEntity<Response> sortByRating() {
+    public ResponseEntity<Response> sortByRating(@RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved Courses.", courseService.sortByRating()));
+            return ResponseEntity.ok(new Response("Successfully retrieved Courses.", courseService.sortByRating(limit)));
         } catch (Exception exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Failed to retrieve Courses. " + exception.getMessage(), null));
         }
     }
+
+    /**
+     * Exports all courses as newline-delimited JSON.
+     * The response is streamed while rows are read from the database, instead of being built as one list.
+     *
+     * @return a ResponseEntity whose body writes one JSON object per course per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCourses() {
+        StreamingResponseBody body = courseService::exportCourses;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
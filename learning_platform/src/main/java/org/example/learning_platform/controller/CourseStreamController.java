@@ -0,0 +1,58 @@
+package org.example.learning_platform.controller;
+
+import org.example.learning_platform.dto.CourseDtoResponse;
+import org.example.learning_platform.service.CourseStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * REST controller for streaming, read-only course browsing.
+ * Results are written as newline-delimited JSON while they are read, honouring the client's pace.
+ */
+@RestController
+@RequestMapping(value = "/course/stream")
+public class CourseStreamController {
+    private final CourseStreamService courseStreamService;
+
+    /**
+     * Constructor for CourseStreamController.
+     *
+     * @param courseStreamService the service for streaming courses.
+     */
+    public CourseStreamController(CourseStreamService courseStreamService) {
+        this.courseStreamService = courseStreamService;
+    }
+
+    /**
+     * Streams all courses.
+     *
+     * @return a Flux writing one course per line.
+     */
+    @GetMapping(value = "/get-all-courses", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CourseDtoResponse> streamAllCourses() {
+        return courseStreamService.streamAllCourses();
+    }
+
+    /**
+     * Streams the courses of a category.
+     *
+     * @param categoryName the name of the category.
+     * @return a Flux writing one course per line.
+     */
+    @GetMapping(value = "/get-course-by-category-name/{categoryName}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CourseDtoResponse> streamCoursesByCategoryName(@PathVariable String categoryName) {
+        return courseStreamService.streamCoursesByCategoryName(categoryName);
+    }
+
+    /**
+     * Streams the courses of an instructor.
+     *
+     * @param instructorName the name of the instructor.
+     * @return a Flux writing one course per line.
+     */
+    @GetMapping(value = "/get-course-by-instructor-name/{instructorName}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CourseDtoResponse> streamCoursesByInstructorName(@PathVariable String instructorName) {
+        return courseStreamService.streamCoursesByInstructorName(instructorName);
+    }
+}
@@ -1,12 +1,15 @@
 package org.example.learning_platform.controller;
 
+import org.example.learning_platform.dto.BulkEnrollmentResultDto;
 import org.example.learning_platform.dto.EnrollmentDto;
 import org.example.learning_platform.dto.Response;
 import org.example.learning_platform.service.EnrollmentService;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -60,17 +63,25 @@ public class EnrollmentController {
     }
 
     /**
-     * Retrieves all enrollments.
+     * Retrieves all enrollments, or one page of them ordered by ID when a cursor or limit is given.
      *
-     * @return a ResponseEntity containing a Response object with a list of all enrollments or an error message.
+     * @param after the opaque cursor returned with the previous page; optional.
+     * @param limit the maximum number of enrollments on the page; optional.
+     * @return a ResponseEntity containing a Response object with a list or a page of enrollments or an error message.
      */
     @GetMapping("/get-all-enrollment")
-    public ResponseEntity<Response> getAllEnrollment() {
+    public ResponseEntity<Response> getAllEnrollment(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<EnrollmentDto> enrollments = enrollmentService.getAllEnrollments();
-            return ResponseEntity.ok(new Response("Successfully retrieved all Enrollments.", enrollments));
+            if (after == null && limit == null) {
+                List<EnrollmentDto> enrollments = enrollmentService.getAllEnrollments();
+                return ResponseEntity.ok(new Response("Successfully retrieved all Enrollments.", enrollments));
+            }
+            return ResponseEntity.ok(new Response("Successfully retrieved Enrollments.", enrollmentService.getEnrollmentsPage(after, limit)));
         } catch (ObjectNotFoundException exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Couldn't find any Enrollments. " + exception.getMessage(), null));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Invalid page request. " + exception.getMessage(), null));
         }
     }
 
@@ -90,6 +101,23 @@ public class EnrollmentController {
         }
     }
 
+    /**
+     * Creates many enrollments in one request.
+     * Rows that cannot be enrolled are reported with their outcome instead of failing the whole request.
+     *
+     * @param requests the list of (studentName, courseId) pairs to enroll.
+     * @return a ResponseEntity containing a Response object with the outcome of each row or an error message.
+     */
+    @PostMapping(value = "/bulk")
+    public ResponseEntity<Response> createEnrollments(@RequestBody List<EnrollmentDto> requests) {
+        try {
+            List<BulkEnrollmentResultDto> results = enrollmentService.createEnrollments(requests);
+            return ResponseEntity.ok(new Response("Processed bulk Enrollment.", results));
+        } catch (Exception exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Bulk Enrollment could not be saved. " + exception.getMessage(), null));
+        }
+    }
+
     /**
      * Deletes an enrollment.
      *
@@ -139,4 +167,16 @@ public class EnrollmentController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Failed to retrieve sorted Enrollments. " + exception.getMessage(), null));
         }
     }
+
+    /**
+     * Exports all enrollments as newline-delimited JSON.
+     * The response is streamed while rows are read from the database, instead of being built as one list.
+     *
+     * @return a ResponseEntity whose body writes one JSON object per enrollment per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEnrollments() {
+        StreamingResponseBody body = enrollmentService::exportEnrollments;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
@@ -5,8 +5,10 @@ import org.example.learning_platform.dto.Response;
 import org.example.learning_platform.service.FeedbackService;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -60,17 +62,25 @@ public class FeedbackController {
     }
 
     /**
-     * Retrieves all feedbacks.
+     * Retrieves all feedbacks, or one page of them ordered by ID when a cursor or limit is given.
      *
-     * @return a ResponseEntity containing a Response object with a list of all feedbacks or an error message.
+     * @param after the opaque cursor returned with the previous page; optional.
+     * @param limit the maximum number of feedbacks on the page; optional.
+     * @return a ResponseEntity containing a Response object with a list or a page of feedbacks or an error message.
      */
     @GetMapping("/get-all-feedback")
-    public ResponseEntity<Response> getAllFeedback() {
+    public ResponseEntity<Response> getAllFeedback(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<FeedbackDto> feedbacks = feedbackService.getAllFeedbacks();
-            return ResponseEntity.ok(new Response("Successfully retrieved all Feedbacks.", feedbacks));
+            if (after == null && limit == null) {
+                List<FeedbackDto> feedbacks = feedbackService.getAllFeedbacks();
+                return ResponseEntity.ok(new Response("Successfully retrieved all Feedbacks.", feedbacks));
+            }
+            return ResponseEntity.ok(new Response("Successfully retrieved Feedbacks.", feedbackService.getFeedbacksPage(after, limit)));
         } catch (ObjectNotFoundException exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Couldn't find any Feedbacks. " + exception.getMessage(), null));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Invalid page request. " + exception.getMessage(), null));
         }
     }
 
@@ -151,4 +161,16 @@ public class FeedbackController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Failed to retrieve sorted Feedbacks. " + exception.getMessage(), null));
         }
     }
+
+    /**
+     * Exports all feedbacks as newline-delimited JSON.
+     * The response is streamed while rows are read from the database, instead of being built as one list.
+     *
+     * @return a ResponseEntity whose body writes one JSON object per feedback per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportFeedbacks() {
+        StreamingResponseBody body = feedbackService::exportFeedbacks;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
@@ -5,8 +5,10 @@ import org.example.learning_platform.dto.Response;
 import org.example.learning_platform.service.InstructorService;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -44,16 +46,24 @@ public class InstructorController {
     }
 
     /**
-     * Retrieves all instructors.
+     * Retrieves all instructors, or one page of them ordered by ID when a cursor or limit is given.
      *
-     * @return a ResponseEntity containing a Response object with a list of all instructors or an error message.
+     * @param after the opaque cursor returned with the previous page; optional.
+     * @param limit the maximum number of instructors on the page; optional.
+     * @return a ResponseEntity containing a Response object with a list or a page of instructors or an error message.
      */
     @GetMapping("/get-all-instructors")
-    public ResponseEntity<Response> getAllInstructor() {
+    public ResponseEntity<Response> getAllInstructor(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved all Instructors.", instructorService.getAllInstructors()));
+            if (after == null && limit == null) {
+                return ResponseEntity.ok(new Response("Successfully retrieved all Instructors.", instructorService.getAllInstructors()));
+            }
+            return ResponseEntity.ok(new Response("Successfully retrieved Instructors.", instructorService.getInstructorsPage(after, limit)));
         } catch (ObjectNotFoundException exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Couldn't find any Instructors. " + exception.getMessage(), null));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Invalid page request. " + exception.getMessage(), null));
         }
     }
 
@@ -90,16 +100,53 @@ public class InstructorController {
     }
 
     /**
-     * Retrieves and sorts instructors by name.
+     * Sorts instructors by name, returning one page of them when a cursor or limit is given.
      *
-     * @return a ResponseEntity containing a Response object with a sorted list of instructors by name or an error message.
+     * @param after the opaque cursor returned with the previous page; optional.
+     * @param limit the maximum number of instructors on the page; optional.
+     * @return a ResponseEntity containing a Response object with the sorted list or page of instructors or an error message.
      */
     @GetMapping(value = "/sort-by-name")
-    public ResponseEntity<Response> sortByName() {
+    public ResponseEntity<Response> sortByName(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(new Response("Successfully get Feedbacks.", instructorService.sortByName()));
+            if (after == null && limit == null) {
+                return ResponseEntity.ok(new Response("Successfully get Feedbacks.", instructorService.sortByName()));
+            }
+            return ResponseEntity.ok(new Response("Successfully get Feedbacks.", instructorService.sortByName(after, limit)));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Invalid page request. " + exception.getMessage(), null));
         } catch (Exception exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Failed to get Feedbacks. " + exception.getMessage(), null));
         }
     }
+
+    /**
+     * Exports all instructors as newline-delimited JSON.
+     * The response is streamed while rows are read from the database, instead of being built as one list.
+     *
+     * @return a ResponseEntity whose body writes one JSON object per instructor per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportInstructors() {
+        StreamingResponseBody body = instructorService::exportInstructors;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Completes a typed prefix to instructor names for search-box typeahead.
+     *
+     * @param prefix the typed prefix.
+     * @param limit  the maximum number of names to return; optional.
+     * @return a ResponseEntity containing a Response object with the matching names or an error message.
+     */
+    @GetMapping(value = "/autocomplete")
+    public ResponseEntity<Response> autocomplete(@RequestParam String prefix, @RequestParam(required = false) Integer limit) {
+        try {
+            List<String> names = instructorService.autocomplete(prefix, limit);
+            return ResponseEntity.ok(new Response("Successfully completed Instructor names.", names));
+        } catch (Exception exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Failed to complete Instructor names. " + exception.getMessage(), null));
+        }
+    }
 }
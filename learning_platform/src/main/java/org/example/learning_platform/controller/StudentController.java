@@ -5,8 +5,10 @@ import org.example.learning_platform.dto.StudentDto;
 import org.example.learning_platform.service.StudentService;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -59,16 +61,24 @@ public class StudentController {
     }
 
     /**
-     * Retrieves all students.
+     * Retrieves all students, or one page of them ordered by ID when a cursor or limit is given.
      *
-     * @return a ResponseEntity containing a Response object with a list of all students or an error message.
+     * @param after the opaque cursor returned with the previous page; optional.
+     * @param limit the maximum number of students on the page; optional.
+     * @return a ResponseEntity containing a Response object with a list or a page of students or an error message.
      */
     @GetMapping("/get-all-student")
-    public ResponseEntity<Response> getAllStudent() {
+    public ResponseEntity<Response> getAllStudent(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved all Students.", studentService.getAllStudents()));
+            if (after == null && limit == null) {
+                return ResponseEntity.ok(new Response("Successfully retrieved all Students.", studentService.getAllStudents()));
+            }
+            return ResponseEntity.ok(new Response("Successfully retrieved Students.", studentService.getStudentsPage(after, limit)));
         } catch (ObjectNotFoundException exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Couldn't find any Students. " + exception.getMessage(), null));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Invalid page request. " + exception.getMessage(), null));
         }
     }
 
@@ -105,16 +115,53 @@ public class StudentController {
     }
 
     /**
-     * Sorts students by name.
+     * Sorts students by name, returning one page of them when a cursor or limit is given.
      *
-     * @return a ResponseEntity containing a Response object with the sorted list of students or an error message.
+     * @param after the opaque cursor returned with the previous page; optional.
+     * @param limit the maximum number of students on the page; optional.
+     * @return a ResponseEntity containing a Response object with the sorted list or page of students or an error message.
      */
     @GetMapping(value = "/sort-by-name")
-    public ResponseEntity<Response> sortByName() {
+    public ResponseEntity<Response> sortByName(@RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         try {
-            return ResponseEntity.ok(new Response("Successfully retrieved sorted Students.", studentService.sortByName()));
+            if (after == null && limit == null) {
+                return ResponseEntity.ok(new Response("Successfully retrieved sorted Students.", studentService.sortByName()));
+            }
+            return ResponseEntity.ok(new Response("Successfully retrieved sorted Students.", studentService.sortByName(after, limit)));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Invalid page request. " + exception.getMessage(), null));
         } catch (Exception exception) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new Response("Failed to retrieve sorted Students. " + exception.getMessage(), null));
         }
     }
+
+    /**
+     * Exports all students as newline-delimited JSON.
+     * The response is streamed while rows are read from the database, instead of being built as one list.
+     *
+     * @return a ResponseEntity whose body writes one JSON object per student per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportStudents() {
+        StreamingResponseBody body = studentService::exportStudents;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Completes a typed prefix to student names for search-box typeahead.
+     *
+     * @param prefix the typed prefix.
+     * @param limit  the maximum number of names to return; optional.
+     * @return a ResponseEntity containing a Response object with the matching names or an error message.
+     */
+    @GetMapping(value = "/autocomplete")
+    public ResponseEntity<Response> autocomplete(@RequestParam String prefix, @RequestParam(required = false) Integer limit) {
+        try {
+            List<String> names = studentService.autocomplete(prefix, limit);
+            return ResponseEntity.ok(new Response("Successfully completed Student names.", names));
+        } catch (Exception exception) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new Response("Failed to complete Student names. " + exception.getMessage(), null));
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package org.example.learning_platform.dto;
+
+/**
+ * A Data Transfer Object (DTO) class for reporting the outcome of one row of a bulk enrollment request.
+ * Each result refers back to its row by position, so clients can match outcomes to the submitted pairs.
+ */
+public class BulkEnrollmentResultDto {
+    /**
+     * The possible outcomes of a bulk enrollment row.
+     */
+    public enum Status {
+        /**
+         * The enrollment was created.
+         */
+        CREATED,
+        /**
+         * The student is already enrolled in the course, or the pair occurs earlier in the same request.
+         */
+        DUPLICATE,
+        /**
+         * No student with the given name exists.
+         */
+        STUDENT_NOT_FOUND,
+        /**
+         * No course with the given ID exists.
+         */
+        COURSE_NOT_FOUND
+    }
+
+    /**
+     * The zero-based position of the row in the request.
+     */
+    private int index;
+
+    /**
+     * The name of the student of the row.
+     */
+    private String studentName;
+
+    /**
+     * The ID of the course of the row.
+     */
+    private Long courseId;
+
+    /**
+     * The outcome of the row.
+     */
+    private Status status;
+
+    /**
+     * The ID of the created enrollment, or `null` if the row was not created.
+     */
+    private Long enrollmentId;
+
+    /**
+     * Default constructor.
+     * Initializes a new instance of `BulkEnrollmentResultDto`.
+     */
+    public BulkEnrollmentResultDto() {}
+
+    /**
+     * Constructor to initialize the result of one row.
+     *
+     * @param index       The position of the row in the request.
+     * @param studentName The name of the student.
+     * @param courseId    The ID of the course.
+     * @param status      The outcome of the row.
+     */
+    public BulkEnrollmentResultDto(int index, String studentName, Long courseId, Status status) {
+        this.index = index;
+        this.studentName = studentName;
+        this.courseId = courseId;
+        this.status = status;
+    }
+
+    /**
+     * Getters and setters
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public BulkEnrollmentResultDto setIndex(int index) {
+        this.index = index;
+        return this;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public BulkEnrollmentResultDto setStudentName(String studentName) {
+        this.studentName = studentName;
+        return this;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public BulkEnrollmentResultDto setCourseId(Long courseId) {
+        this.courseId = courseId;
+        return this;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public BulkEnrollmentResultDto setStatus(Status status) {
+        this.status = status;
+        return this;
+    }
+
+    public Long getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public BulkEnrollmentResultDto setEnrollmentId(Long enrollmentId) {
+        this.enrollmentId = enrollmentId;
+        return this;
+    }
+}
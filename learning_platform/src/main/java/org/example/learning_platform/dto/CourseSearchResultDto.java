@@ -0,0 +1,55 @@
+package org.example.learning_platform.dto;
+
+/**
+ * A Data Transfer Object (DTO) class for one ranked result of a course search.
+ * It pairs the matching course with its relevance score, so clients can display or threshold results by relevance.
+ */
+public class CourseSearchResultDto {
+    /**
+     * The matching course.
+     */
+    private CourseDtoResponse course;
+
+    /**
+     * The relevance score of the course for the query; higher is more relevant.
+     */
+    private Double score;
+
+    /**
+     * Default constructor.
+     * Initializes a new instance of `CourseSearchResultDto`.
+     */
+    public CourseSearchResultDto() {}
+
+    /**
+     * Constructor to initialize a search result.
+     *
+     * @param course The matching course.
+     * @param score  The relevance score of the course.
+     */
+    public CourseSearchResultDto(CourseDtoResponse course, Double score) {
+        this.course = course;
+        this.score = score;
+    }
+
+    /**
+     * Getters and setters
+     */
+    public CourseDtoResponse getCourse() {
+        return course;
+    }
+
+    public CourseSearchResultDto setCourse(CourseDtoResponse course) {
+        this.course = course;
+        return this;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public CourseSearchResultDto setScore(Double score) {
+        this.score = score;
+        return this;
+    }
+}
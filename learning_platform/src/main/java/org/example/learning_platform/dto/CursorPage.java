@@ -0,0 +1,60 @@
+package org.example.learning_platform.dto;
+
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) class for transferring one page of a keyset (cursor) paginated listing.
+ * The page holds the items themselves and an opaque cursor that the client passes back as `after`
+ * to fetch the next page. A `null` cursor means that there are no more items.
+ *
+ * @param <T> The type of the items on the page.
+ */
+public class CursorPage<T> {
+    /**
+     * The items of the current page, in the order of the underlying sort key.
+     */
+    private List<T> items;
+
+    /**
+     * The opaque cursor pointing after the last item of this page, or `null` if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Default constructor.
+     * Initializes a new instance of `CursorPage`.
+     */
+    public CursorPage() {}
+
+    /**
+     * Constructor to initialize the page with its items and the cursor of the next page.
+     *
+     * @param items      The items of the page.
+     * @param nextCursor The cursor of the next page, or `null` if there is none.
+     */
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Getters and setters
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    public CursorPage<T> setItems(List<T> items) {
+        this.items = items;
+        return this;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public CursorPage<T> setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+        return this;
+    }
+}
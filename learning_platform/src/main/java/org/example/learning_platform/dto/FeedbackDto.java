@@ -57,6 +57,29 @@ public class FeedbackDto {
      */
     public FeedbackDto() {}
 
+    /**
+     * Constructor used by the JPQL constructor expressions in `FeedbackRepository`,
+     * which select the feedback together with its course title and student name in one statement.
+     *
+     * @param id           The unique identifier of the feedback.
+     * @param rating       The rating given in the feedback.
+     * @param comment      The comment given in the feedback.
+     * @param feedbackDate The date the feedback was given.
+     * @param studentName  The name of the student who gave the feedback.
+     * @param courseId     The ID of the course the feedback relates to.
+     * @param courseName   The title of the course the feedback relates to.
+     */
+    public FeedbackDto(Long id, Double rating, String comment, LocalDate feedbackDate,
+                       String studentName, Long courseId, String courseName) {
+        this.id = id;
+        this.rating = rating;
+        this.comment = comment;
+        this.feedbackDate = feedbackDate;
+        this.studentName = studentName;
+        this.courseId = courseId;
+        this.courseName = courseName;
+    }
+
     /**
      * Getters and setters
      */
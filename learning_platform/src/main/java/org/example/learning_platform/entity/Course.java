@@ -1,6 +1,8 @@
 package org.example.learning_platform.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -9,10 +11,13 @@ import java.time.LocalDate;
  * A course is defined by its title, description, duration, price, and other attributes.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "course")
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "course_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -44,17 +49,32 @@ public class Course {
 
     /**
      * The total number of enrollments for the course.
+     * It is maintained by the database and never overwritten by entity updates.
      */
-    @Column(name = "total_enrollments")
+    @Column(name = "total_enrollments", updatable = false)
     private Integer totalEnrollments;
 
     /**
      * The average rating given by students for the course.
-     * This is a floating-point value.
+     * This is a floating-point value derived from `ratingSum / ratingCount` whenever feedback changes.
      */
-    @Column(name = "average_rating")
+    @Column(name = "average_rating", updatable = false)
     private Float averageRating;
 
+    /**
+     * The sum of all feedback ratings of the course.
+     * It is adjusted incrementally on every feedback insert, update and delete.
+     */
+    @Column(name = "rating_sum", updatable = false)
+    private Double ratingSum;
+
+    /**
+     * The number of feedback ratings of the course.
+     * It is adjusted incrementally on every feedback insert and delete.
+     */
+    @Column(name = "rating_count", updatable = false)
+    private Integer ratingCount;
+
     /**
      * The date when the course was created.
      * This will be automatically set to the current date when the entity is persisted.
@@ -65,16 +85,18 @@ public class Course {
     /**
      * The instructor who teaches this course.
      * This is a many-to-one relationship mapped by `instructor_id`.
+     * It is loaded lazily so that course lists can resolve instructors in one batch.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "instructor_id", referencedColumnName = "id")
     private Instructor courseInstructor;
 
     /**
      * The category to which this course belongs.
      * This is a many-to-one relationship mapped by `category_id`.
+     * It is loaded lazily so that course lists can resolve categories in one batch.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", referencedColumnName = "id")
     private Category courseCategory;
 
@@ -157,6 +179,24 @@ public class Course {
         return this;
     }
 
+    public Double getRatingSum() {
+        return ratingSum;
+    }
+
+    public Course setRatingSum(Double ratingSum) {
+        this.ratingSum = ratingSum;
+        return this;
+    }
+
+    public Integer getRatingCount() {
+        return ratingCount;
+    }
+
+    public Course setRatingCount(Integer ratingCount) {
+        this.ratingCount = ratingCount;
+        return this;
+    }
+
     public LocalDate getCreationDate() {
         return creationDate;
     }
@@ -9,10 +9,15 @@ import java.time.LocalDate;
  * An enrollment links a student to a course, tracking the date of enrollment, completion status, and other relevant details.
  */
 @Entity
-@Table(name = "enrollment")
+@Table(name = "enrollment", uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "course_id"}))
 public class Enrollment {
+    /**
+     * The ID is drawn from a pooled sequence rather than an identity column,
+     * so Hibernate can assign IDs up front and group inserts into JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollment_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -34,7 +39,7 @@ public class Enrollment {
      * This is a many-to-one relationship mapped by `student_id`.
      */
     @ManyToOne
-    @JoinColumn(name = "student_id", referencedColumnName = "id")
+    @JoinColumn(name = "student_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "enrollment_student_id_fkey"))
     private Student enrollmentStudent;
 
     /**
@@ -42,7 +47,7 @@ public class Enrollment {
      * This is a many-to-one relationship mapped by `course_id`.
      */
     @ManyToOne
-    @JoinColumn(name = "course_id", referencedColumnName = "id")
+    @JoinColumn(name = "course_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "enrollment_course_id_fkey"))
     private Course enrollmentCourse;
 
     /**
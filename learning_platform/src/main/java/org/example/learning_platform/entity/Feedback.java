@@ -12,7 +12,8 @@ import java.time.LocalDate;
 @Table(name = "feedback")
 public class Feedback {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feedback_seq")
+    @SequenceGenerator(name = "feedback_seq", sequenceName = "feedback_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -39,16 +40,16 @@ public class Feedback {
      * The student who provided the feedback.
      * This is a many-to-one relationship mapped by `student_id`.
      */
-    @ManyToOne
-    @JoinColumn(name = "student_id", referencedColumnName = "id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "feedback_student_id_fkey"))
     private Student feedbackStudent;
 
     /**
      * The course for which the feedback was provided.
      * This is a many-to-one relationship mapped by `course_id`.
      */
-    @ManyToOne
-    @JoinColumn(name = "course_id", referencedColumnName = "id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "feedback_course_id_fkey"))
     private Course feedbackCourse;
 
     /**
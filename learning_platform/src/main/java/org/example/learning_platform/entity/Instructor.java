@@ -1,6 +1,8 @@
 package org.example.learning_platform.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -9,10 +11,13 @@ import java.time.LocalDate;
  * An instructor is responsible for teaching courses and has personal details and a registration date.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "instructor")
 public class Instructor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "instructor_seq")
+    @SequenceGenerator(name = "instructor_seq", sequenceName = "instructor_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -26,7 +31,7 @@ public class Instructor {
      * The email of the instructor.
      * This is a required field and should be unique.
      */
-    @Column(name = "email")
+    @Column(name = "email", unique = true)
     private String email;
 
     /**
@@ -1,6 +1,9 @@
 package org.example.learning_platform.entity;
 
 import jakarta.persistence.*;
+import org.example.learning_platform.utils.cache.StudentIdCacheInvalidationListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -9,10 +12,14 @@ import java.time.LocalDate;
  * This entity stores information about students, including their personal details and registration date.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "student")
+@EntityListeners(StudentIdCacheInvalidationListener.class)
 public class Student {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "student_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -26,7 +33,7 @@ public class Student {
      * The email address of the student.
      * This is a required field and must be a valid email format.
      */
-    @Column(name = "email")
+    @Column(name = "email", unique = true)
     private String email;
 
     /**
@@ -2,12 +2,14 @@ package org.example.learning_platform.entity;
 
 import jakarta.persistence.*;
 import jakarta.persistence.Id;
+import org.example.learning_platform.security.PrincipalCacheInvalidationListener;
 import org.springframework.context.support.BeanDefinitionDsl;
 
 import java.util.*;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(PrincipalCacheInvalidationListener.class)
 public class User {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -1,11 +1,18 @@
 package org.example.learning_platform.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for handling CRUD operations for `Category` entities.
@@ -49,4 +56,24 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      */
     @Query("SELECT c FROM Category c WHERE LOWER(c.name) = LOWER(?1)")
     Optional<Category> findByName(String name);
+
+    /**
+     * Retrieves all categories whose IDs are in the given collection using a single `IN` query.
+     *
+     * @param ids The IDs of the categories to load.
+     * @return A list of categories matching the given IDs.
+     */
+    @Query("SELECT c FROM Category c WHERE c.id IN ?1")
+    List<Category> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Streams all categories, in ascending ID order.
+     * Rows are read through a database cursor with a bounded fetch size; the stream must be consumed and closed
+     * inside a transaction.
+     *
+     * @return A stream of all category rows.
+     */
+    @Query("SELECT c FROM Category c ORDER BY c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    Stream<Category> streamAll();
 }
@@ -1,12 +1,21 @@
 package org.example.learning_platform.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for handling CRUD operations for `Course` entities.
@@ -31,17 +40,9 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * @return An `Optional` containing the found course, or empty if not found.
      */
     @Query("SELECT c FROM Course c WHERE c.id = ?1")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Course> findById(Long id);
 
-    /**
-     * Finds courses whose titles contain the specified string.
-     *
-     * @param title The title to search for within course titles.
-     * @return A list of courses with titles containing the specified string.
-     */
-    @Query("SELECT c FROM Course c WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', ?1, '%'))")
-    List<Course> findByNameContains(String title);
-
     /**
      * Finds a course by its exact title.
      *
@@ -81,4 +82,160 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c JOIN Enrollment e ON c.id = e.enrollmentCourse.id " +
             "JOIN Student s ON e.enrollmentStudent.id = s.id WHERE LOWER(s.name) = LOWER(?1)")
     List<Course> findCourseByStudentName(String studentName);
+
+    /**
+     * Retrieves the next page of courses ordered by ID, seeking past the given ID on the primary key index.
+     *
+     * @param afterId  The ID of the last course of the previous page, or `0` for the first page.
+     * @param pageable The page size; only the first page of the result is read.
+     * @return A list of courses with IDs greater than `afterId`, in ascending ID order.
+     */
+    @Query("SELECT c FROM Course c WHERE c.id > ?1 ORDER BY c.id")
+    List<Course> findPageAfterId(Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves courses ordered by duration, shortest first, using the `(duration, id)` index.
+     *
+     * @param pageable The maximum number of courses to read, or unpaged for all courses.
+     * @return A list of courses sorted by duration.
+     */
+    @Query("SELECT c FROM Course c ORDER BY c.duration, c.id")
+    List<Course> findAllOrderByDuration(Pageable pageable);
+
+    /**
+     * Retrieves courses ordered by price, cheapest first, using the `(price, id)` index.
+     *
+     * @param pageable The maximum number of courses to read, or unpaged for all courses.
+     * @return A list of courses sorted by price.
+     */
+    @Query("SELECT c FROM Course c ORDER BY c.price, c.id")
+    List<Course> findAllOrderByPrice(Pageable pageable);
+
+    /**
+     * Retrieves courses ordered by total enrollments, least enrolled first, using the `(total_enrollments, id)` index.
+     *
+     * @param pageable The maximum number of courses to read, or unpaged for all courses.
+     * @return A list of courses sorted by total enrollments.
+     */
+    @Query("SELECT c FROM Course c ORDER BY c.totalEnrollments, c.id")
+    List<Course> findAllOrderByEnrollments(Pageable pageable);
+
+    /**
+     * Retrieves courses ordered by average rating, best rated first, using the `(average_rating DESC, id)` index.
+     *
+     * @param pageable The maximum number of courses to read, or unpaged for all courses.
+     * @return A list of courses sorted by average rating in descending order.
+     */
+    @Query("SELECT c FROM Course c ORDER BY c.averageRating DESC, c.id")
+    List<Course> findAllOrderByRating(Pageable pageable);
+
+    /**
+     * Adds a rating to the running sum and count of a course and rederives its average rating.
+     * This is a single-row update whose cost does not depend on the number of feedbacks of the course.
+     *
+     * @param courseId The ID of the course.
+     * @param rating   The rating to add.
+     * @return The number of updated rows.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course"))
+    @Modifying
+    @Query(value = "UPDATE course SET rating_sum = rating_sum + ?2, rating_count = rating_count + 1, " +
+            "average_rating = (rating_sum + ?2) / (rating_count + 1) WHERE id = ?1", nativeQuery = true)
+    int addRating(Long courseId, Double rating);
+
+    /**
+     * Removes a rating from the running sum and count of a course and rederives its average rating.
+     * The sum is reset to zero together with the last rating so that floating-point drift does not accumulate.
+     *
+     * @param courseId The ID of the course.
+     * @param rating   The rating to remove.
+     * @return The number of updated rows.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course"))
+    @Modifying
+    @Query(value = "UPDATE course SET " +
+            "rating_sum = CASE WHEN rating_count > 1 THEN rating_sum - ?2 ELSE 0 END, " +
+            "average_rating = CASE WHEN rating_count > 1 THEN (rating_sum - ?2) / (rating_count - 1) ELSE 0 END, " +
+            "rating_count = CASE WHEN rating_count > 0 THEN rating_count - 1 ELSE 0 END " +
+            "WHERE id = ?1", nativeQuery = true)
+    int removeRating(Long courseId, Double rating);
+
+    /**
+     * Replaces one rating of a course with another, keeping the count unchanged.
+     *
+     * @param courseId  The ID of the course.
+     * @param oldRating The rating being replaced.
+     * @param newRating The new rating.
+     * @return The number of updated rows.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course"))
+    @Modifying
+    @Query(value = "UPDATE course SET rating_sum = rating_sum - ?2 + ?3, " +
+            "average_rating = CASE WHEN rating_count > 0 THEN (rating_sum - ?2 + ?3) / rating_count ELSE 0 END " +
+            "WHERE id = ?1", nativeQuery = true)
+    int replaceRating(Long courseId, Double oldRating, Double newRating);
+
+    /**
+     * Recomputes the total enrollments of every course from the enrollment table.
+     *
+     * @return The number of updated rows.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course"))
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE course SET total_enrollments = " +
+            "(SELECT COUNT(*) FROM enrollment e WHERE e.course_id = course.id)", nativeQuery = true)
+    int reconcileTotalEnrollments();
+
+    /**
+     * Retrieves all courses whose IDs are in the given collection using a single `IN` query.
+     *
+     * @param ids The IDs of the courses to load.
+     * @return A list of courses matching the given IDs.
+     */
+    @Query("SELECT c FROM Course c WHERE c.id IN ?1")
+    List<Course> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Streams all courses, with their instructors and categories fetched in the same query, in ascending ID order.
+     * Rows are read through a database cursor with a bounded fetch size; the stream must be consumed and closed
+     * inside a transaction.
+     *
+     * @return A stream of all course rows.
+     */
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.courseInstructor LEFT JOIN FETCH c.courseCategory ORDER BY c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    Stream<Course> streamAll();
+
+    /**
+     * Retrieves all courses with their instructors and categories fetched in the same query.
+     *
+     * @return A list of all courses with initialized associations.
+     */
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.courseInstructor LEFT JOIN FETCH c.courseCategory")
+    List<Course> findAllWithAssociations();
+
+    /**
+     * Retrieves the next page of courses of a category ordered by ID, seeking past the given ID.
+     *
+     * @param categoryName The category name, compared case-insensitively.
+     * @param afterId      The ID of the last course of the previous page, or `0` for the first page.
+     * @param pageable     The page size; only the first page of the result is read.
+     * @return A list of courses of the category with IDs greater than `afterId`, in ascending ID order.
+     */
+    @Query("SELECT c FROM Course c WHERE c.courseCategory.id = " +
+            "(SELECT cat.id FROM Category cat WHERE LOWER(cat.name) = LOWER(?1)) AND c.id > ?2 ORDER BY c.id")
+    List<Course> findPageByCategoryNameAfterId(String categoryName, Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the next page of courses of an instructor ordered by ID, seeking past the given ID.
+     *
+     * @param instructorName The instructor name, compared case-insensitively.
+     * @param afterId        The ID of the last course of the previous page, or `0` for the first page.
+     * @param pageable       The page size; only the first page of the result is read.
+     * @return A list of courses of the instructor with IDs greater than `afterId`, in ascending ID order.
+     */
+    @Query("SELECT c FROM Course c WHERE c.courseInstructor.id = " +
+            "(SELECT i.id FROM Instructor i WHERE LOWER(i.name) = LOWER(?1)) AND c.id > ?2 ORDER BY c.id")
+    List<Course> findPageByInstructorNameAfterId(String instructorName, Long afterId, Pageable pageable);
 }
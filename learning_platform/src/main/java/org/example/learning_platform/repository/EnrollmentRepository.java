@@ -1,12 +1,20 @@
 package org.example.learning_platform.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.learning_platform.entity.Enrollment;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for handling CRUD operations for `Enrollment` entities.
@@ -61,4 +69,58 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     @Query("SELECT e FROM Enrollment e WHERE e.enrollmentCourse.id = ?2 " +
             "AND e.enrollmentStudent.id = (SELECT s.id FROM Student s WHERE s.name = ?1)")
     Enrollment findByStudentNameAndCourseId(String studentName, Long courseId);
+
+    /**
+     * Deletes the enrollment of a student in a course with a single `DELETE` statement.
+     *
+     * @param studentId The ID of the student.
+     * @param courseId The ID of the course.
+     * @return The number of deleted enrollments, `0` or `1`.
+     */
+    @Modifying
+    @Query("DELETE FROM Enrollment e WHERE e.enrollmentStudent.id = ?1 AND e.enrollmentCourse.id = ?2")
+    int deleteByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    /**
+     * Retrieves the next page of enrollments ordered by ID, seeking past the given ID on the primary key index.
+     *
+     * @param afterId  The ID of the last enrollment of the previous page, or `0` for the first page.
+     * @param pageable The page size; only the first page of the result is read.
+     * @return A list of enrollments with IDs greater than `afterId`, in ascending ID order, with their students and
+     * courses fetched in the same query.
+     */
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.enrollmentStudent JOIN FETCH e.enrollmentCourse " +
+            "WHERE e.id > ?1 ORDER BY e.id")
+    List<Enrollment> findPageAfterId(Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves all enrollments with their students and courses fetched in the same query.
+     *
+     * @return A list of all enrollments with initialized associations.
+     */
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.enrollmentStudent JOIN FETCH e.enrollmentCourse")
+    List<Enrollment> findAllWithAssociations();
+
+    /**
+     * Retrieves the (student ID, course ID) pairs of existing enrollments among the given students and courses.
+     * The result may contain pairs that were not requested; callers filter it against the requested pairs.
+     *
+     * @param studentIds The IDs of the students.
+     * @param courseIds  The IDs of the courses.
+     * @return A list of `[studentId, courseId]` pairs of existing enrollments.
+     */
+    @Query("SELECT e.enrollmentStudent.id, e.enrollmentCourse.id FROM Enrollment e " +
+            "WHERE e.enrollmentStudent.id IN ?1 AND e.enrollmentCourse.id IN ?2")
+    List<Object[]> findExistingPairs(Collection<Long> studentIds, Collection<Long> courseIds);
+
+    /**
+     * Streams all enrollments, with their students and courses fetched in the same query, in ascending ID order.
+     * Rows are read through a database cursor with a bounded fetch size; the stream must be consumed and closed
+     * inside a transaction.
+     *
+     * @return A stream of all enrollment rows.
+     */
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.enrollmentStudent JOIN FETCH e.enrollmentCourse ORDER BY e.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    Stream<Enrollment> streamAll();
 }
@@ -1,12 +1,19 @@
 package org.example.learning_platform.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.learning_platform.dto.FeedbackDto;
 import org.example.learning_platform.entity.Feedback;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for handling CRUD operations for `Feedback` entities.
@@ -15,6 +22,14 @@ import java.util.Optional;
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
 
+    /**
+     * The select list of the feedback DTO projections: the feedback columns plus the student name and course title,
+     * read through joins so each projection query is a single SQL statement.
+     */
+    String DTO_PROJECTION = "SELECT new org.example.learning_platform.dto.FeedbackDto(" +
+            "f.id, f.rating, f.comment, f.feedbackDate, s.name, c.id, c.title) " +
+            "FROM Feedback f LEFT JOIN f.feedbackStudent s LEFT JOIN f.feedbackCourse c ";
+
     /**
      * Checks if a feedback ID exists in the database.
      *
@@ -34,20 +49,49 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
     Optional<Feedback> findById(Long id);
 
     /**
-     * Retrieves a list of feedbacks given by a student based on the student's name.
+     * Retrieves all feedbacks as DTOs, with course titles and student names joined in the same query.
+     *
+     * @return A list of `FeedbackDto` objects for all feedbacks.
+     */
+    @Query(DTO_PROJECTION)
+    List<FeedbackDto> findAllDtos();
+
+    /**
+     * Retrieves feedbacks of students whose names contain the given text, as DTOs.
+     *
+     * @param studentName The text to search for in student names, case-insensitively.
+     * @return A list of `FeedbackDto` objects given by the matching students.
+     */
+    @Query(DTO_PROJECTION + "WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', ?1, '%'))")
+    List<FeedbackDto> findDtosByStudentName(String studentName);
+
+    /**
+     * Retrieves feedbacks of courses whose titles contain the given text, as DTOs.
+     *
+     * @param courseName The text to search for in course titles, case-insensitively.
+     * @return A list of `FeedbackDto` objects for the matching courses.
+     */
+    @Query(DTO_PROJECTION + "WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', ?1, '%'))")
+    List<FeedbackDto> findDtosByCourseName(String courseName);
+
+    /**
+     * Retrieves the next page of feedbacks ordered by ID as DTOs, seeking past the given ID on the primary key index.
      *
-     * @param studentName The name of the student.
-     * @return A list of `Feedback` objects associated with the student.
+     * @param afterId  The ID of the last feedback of the previous page, or `0` for the first page.
+     * @param pageable The page size; only the first page of the result is read.
+     * @return A list of `FeedbackDto` objects with IDs greater than `afterId`, in ascending ID order.
      */
-    @Query("SELECT f FROM Feedback f JOIN Student s ON f.feedbackStudent.id = s.id WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', ?1, '%'))")
-    List<Feedback> findByStudentName(String studentName);
+    @Query(DTO_PROJECTION + "WHERE f.id > ?1 ORDER BY f.id")
+    List<FeedbackDto> findDtoPageAfterId(Long afterId, Pageable pageable);
 
     /**
-     * Retrieves a list of feedbacks for a specific course based on the course title.
+     * Streams all feedbacks as DTOs in ascending ID order.
+     * Rows are read through a database cursor with a bounded fetch size; the stream must be consumed and closed
+     * inside a transaction.
      *
-     * @param courseName The title of the course.
-     * @return A list of `Feedback` objects associated with the course.
+     * @return A stream of `FeedbackDto` objects for all feedbacks.
      */
-    @Query("SELECT f FROM Feedback f JOIN Course c ON f.feedbackCourse.id = c.id WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', ?1, '%'))")
-    List<Feedback> findByCourseName(String courseName);
+    @Query(DTO_PROJECTION + "ORDER BY f.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    Stream<FeedbackDto> streamAllDtos();
 }
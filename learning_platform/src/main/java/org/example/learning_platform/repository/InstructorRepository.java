@@ -1,12 +1,19 @@
 package org.example.learning_platform.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for handling CRUD operations for `Instructor` entities.
@@ -40,6 +47,7 @@ public interface InstructorRepository extends JpaRepository<Instructor, Long> {
      * @return An `Optional` containing the found instructor, or empty if not found.
      */
     @Query("SELECT i FROM Instructor i WHERE i.id = ?1")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Instructor> findById(Long id);
 
     /**
@@ -59,4 +67,63 @@ public interface InstructorRepository extends JpaRepository<Instructor, Long> {
      */
     @Query("SELECT i FROM Instructor i WHERE LOWER(i.name) LIKE LOWER(CONCAT('%', ?1, '%'))")
     List<Instructor> findByNameContains(String name);
+
+    /**
+     * Retrieves all instructors whose IDs are in the given collection using a single `IN` query.
+     *
+     * @param ids The IDs of the instructors to load.
+     * @return A list of instructors matching the given IDs.
+     */
+    @Query("SELECT i FROM Instructor i WHERE i.id IN ?1")
+    List<Instructor> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Retrieves the next page of instructors ordered by ID, seeking past the given ID on the primary key index.
+     *
+     * @param afterId  The ID of the last instructor of the previous page, or `0` for the first page.
+     * @param pageable The page size; only the first page of the result is read.
+     * @return A list of instructors with IDs greater than `afterId`, in ascending ID order.
+     */
+    @Query("SELECT i FROM Instructor i WHERE i.id > ?1 ORDER BY i.id")
+    List<Instructor> findPageAfterId(Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the next page of instructors ordered by name, seeking past the given name and ID.
+     * Names are not guaranteed to be unique, so the ID breaks ties and instructors sharing a name on both sides
+     * of a page boundary are neither skipped nor repeated.
+     *
+     * @param afterName The name of the last instructor of the previous page, or an empty string for the first page.
+     * @param afterId   The ID of the last instructor of the previous page, or `0` for the first page.
+     * @param pageable  The page size; only the first page of the result is read.
+     * @return A list of instructors after (`afterName`, `afterId`), in ascending name and ID order.
+     */
+    @Query("SELECT i FROM Instructor i WHERE i.name > ?1 OR (i.name = ?1 AND i.id > ?2) ORDER BY i.name, i.id")
+    List<Instructor> findPageAfterName(String afterName, Long afterId, Pageable pageable);
+
+    /**
+     * Streams all instructors, in ascending ID order.
+     * Rows are read through a database cursor with a bounded fetch size; the stream must be consumed and closed
+     * inside a transaction.
+     *
+     * @return A stream of all instructor rows.
+     */
+    @Query("SELECT i FROM Instructor i ORDER BY i.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    Stream<Instructor> streamAll();
+
+    /**
+     * Retrieves the names of all instructors, without loading the entities.
+     *
+     * @return A list of all instructor names.
+     */
+    @Query("SELECT i.name FROM Instructor i")
+    List<String> findAllNames();
+
+    /**
+     * Retrieves the emails of all instructors, without loading the entities.
+     *
+     * @return A list of all instructor emails.
+     */
+    @Query("SELECT i.email FROM Instructor i")
+    List<String> findAllEmails();
 }
@@ -1,12 +1,19 @@
 package org.example.learning_platform.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.learning_platform.entity.Student;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for handling CRUD operations for `Student` entities.
@@ -30,8 +37,8 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @param name The name of the student to check.
      * @return `true` if the name exists, otherwise `false`.
      */
-    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Student s WHERE s.name = ?1")
-    boolean isEmailExist(String name);
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Student s WHERE LOWER(s.email) = LOWER(?1)")
+    boolean isEmailExist(String email);
 
     /**
      * Retrieves a student by their ID.
@@ -40,6 +47,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @return An `Optional` containing the found student, or empty if not found.
      */
     @Query("SELECT s FROM Student s WHERE s.id = ?1")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Student> findById(Long id);
 
     /**
@@ -49,8 +57,18 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * @return An `Optional` containing the found student, or empty if not found.
      */
     @Query("SELECT s FROM Student s WHERE s.name = ?1")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Student> findByName(String name);
 
+    /**
+     * Retrieves the ID of a student by their name without loading the student.
+     *
+     * @param name The name of the student.
+     * @return An `Optional` containing the student's ID, or empty if not found.
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.name = ?1")
+    Optional<Long> findIdByName(String name);
+
     /**
      * Retrieves a list of students whose names contain the specified substring.
      *
@@ -68,4 +86,63 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     @Query("SELECT s FROM Student s JOIN Enrollment e ON s.id = e.enrollmentStudent.id WHERE e.enrollmentCourse.id = ?1")
     List<Student> findStudentsByCourseId(Long courseId);
+
+    /**
+     * Retrieves the next page of students ordered by ID, seeking past the given ID on the primary key index.
+     *
+     * @param afterId  The ID of the last student of the previous page, or `0` for the first page.
+     * @param pageable The page size; only the first page of the result is read.
+     * @return A list of students with IDs greater than `afterId`, in ascending ID order.
+     */
+    @Query("SELECT s FROM Student s WHERE s.id > ?1 ORDER BY s.id")
+    List<Student> findPageAfterId(Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the next page of students ordered by name, seeking past the given name and ID.
+     * Names are not guaranteed to be unique, so the ID breaks ties and students sharing a name on both sides
+     * of a page boundary are neither skipped nor repeated.
+     *
+     * @param afterName The name of the last student of the previous page, or an empty string for the first page.
+     * @param afterId   The ID of the last student of the previous page, or `0` for the first page.
+     * @param pageable  The page size; only the first page of the result is read.
+     * @return A list of students after (`afterName`, `afterId`), in ascending name and ID order.
+     */
+    @Query("SELECT s FROM Student s WHERE s.name > ?1 OR (s.name = ?1 AND s.id > ?2) ORDER BY s.name, s.id")
+    List<Student> findPageAfterName(String afterName, Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves all students whose names are in the given collection using a single `IN` query.
+     *
+     * @param names The exact names of the students.
+     * @return A list of students matching the given names.
+     */
+    @Query("SELECT s FROM Student s WHERE s.name IN ?1")
+    List<Student> findByNameIn(Collection<String> names);
+
+    /**
+     * Streams all students, in ascending ID order.
+     * Rows are read through a database cursor with a bounded fetch size; the stream must be consumed and closed
+     * inside a transaction.
+     *
+     * @return A stream of all student rows.
+     */
+    @Query("SELECT s FROM Student s ORDER BY s.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    Stream<Student> streamAll();
+
+    /**
+     * Retrieves the names of all students, without loading the entities.
+     *
+     * @return A list of all student names.
+     */
+    @Query("SELECT s.name FROM Student s")
+    List<String> findAllNames();
+
+    /**
+     * Retrieves the emails of all students, without loading the entities.
+     *
+     * @return A list of all student emails.
+     */
+    @Query("SELECT s.email FROM Student s")
+    List<String> findAllEmails();
 }
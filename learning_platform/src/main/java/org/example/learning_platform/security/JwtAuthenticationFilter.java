@@ -16,8 +16,9 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
-    private JwtUtils jwtUtils;
+    private VerifiedTokenCache verifiedTokenCache;
     @Autowired private CustomUserDetailsService userDetailsService;
+    @Autowired private PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -27,9 +28,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtUtils.validateToken(token)) {
-                String username = jwtUtils.getUsernameFromJwt(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            VerifiedJwt jwt = verifiedTokenCache.verify(token);
+            if (jwt != null) {
+                UserDetails userDetails = principalCache.get(jwt.username(), jwt.issuedAt(),
+                        () -> userDetailsService.loadUserByUsername(jwt.username()));
                 UsernamePasswordAuthenticationToken auth =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(auth);
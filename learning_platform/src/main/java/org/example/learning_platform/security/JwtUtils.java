@@ -0,0 +1,86 @@
+package org.example.learning_platform.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.learning_platform.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Issues and verifies the HMAC-signed access tokens used by `JwtAuthenticationFilter`.
+ */
+@Component
+public class JwtUtils {
+
+    private final Key signingKey;
+    private final long expirationMs;
+
+    public JwtUtils(@Value("${jwt.secret}") String secret,
+                    @Value("${jwt.expirationMs}") long expirationMs) {
+        this.signingKey = Keys.hmacShaKeyFor(sha256(secret));
+        this.expirationMs = expirationMs;
+    }
+
+    public String generateToken(UserDetails user) {
+        return generateToken(user.getUsername());
+    }
+
+    public String generateToken(User user) {
+        return generateToken(user.getUsername());
+    }
+
+    private String generateToken(String username) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(username)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expirationMs))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    /**
+     * Parses and verifies the token once, returning all claims the filter needs, or `null` if it is invalid or expired.
+     */
+    public VerifiedJwt verify(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            Instant issuedAt = claims.getIssuedAt() == null ? Instant.EPOCH : claims.getIssuedAt().toInstant();
+            Instant expiresAt = claims.getExpiration() == null
+                    ? Instant.now().plusMillis(expirationMs)
+                    : claims.getExpiration().toInstant();
+            return new VerifiedJwt(claims.getSubject(), issuedAt, expiresAt);
+        } catch (JwtException | IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private Claims parseClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * Stretches the configured secret to the 256 bits HS256 requires.
+     */
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
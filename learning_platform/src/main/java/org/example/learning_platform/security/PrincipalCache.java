@@ -0,0 +1,67 @@
+package org.example.learning_platform.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated principals used by `JwtAuthenticationFilter`,
+ * so that requests carrying an already seen token skip the `UserRepository.findByUsername` query.
+ * Entries are keyed by username and token issue time and are dropped on `invalidate` when the
+ * user's roles or enabled state change.
+ */
+@Component
+public class PrincipalCache {
+
+    private record Key(String username, Instant issuedAt) {}
+
+    private final Cache<Key, UserDetails> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(@Value("${security.principal-cache.ttl-ms:60000}") long ttlMs,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Returns the cached principal for the token, loading and caching it on a miss or after expiry.
+     */
+    public UserDetails get(String username, Instant issuedAt, Supplier<UserDetails> loader) {
+        Key key = new Key(username, issuedAt);
+        UserDetails cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedAt = generation.get();
+        UserDetails principal = loader.get();
+        // Do not cache a principal loaded while an invalidation was in progress, it may already be stale.
+        if (generation.get() == loadedAt) {
+            entries.put(key, principal);
+        }
+        return principal;
+    }
+
+    /**
+     * Drops every cached principal of the given user.
+     */
+    public void invalidate(String username) {
+        generation.incrementAndGet();
+        entries.asMap().keySet().removeIf(key -> key.username().equals(username));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+    }
+}
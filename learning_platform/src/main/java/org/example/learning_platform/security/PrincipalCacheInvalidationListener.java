@@ -0,0 +1,30 @@
+package org.example.learning_platform.security;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.learning_platform.entity.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener on `User` that evicts the user's cached principals whenever the user row
+ * (roles, enabled flag, password) is updated or deleted.
+ */
+@Component
+public class PrincipalCacheInvalidationListener {
+
+    private final PrincipalCache principalCache;
+
+    public PrincipalCacheInvalidationListener(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        if (user.getUsername() == null) {
+            principalCache.invalidateAll();
+        } else {
+            principalCache.invalidate(user.getUsername());
+        }
+    }
+}
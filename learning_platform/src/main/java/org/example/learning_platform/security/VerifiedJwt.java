@@ -0,0 +1,13 @@
+package org.example.learning_platform.security;
+
+import java.time.Instant;
+
+/**
+ * The claims of an access token whose signature and expiry have been verified.
+ *
+ * @param username  The subject of the token.
+ * @param issuedAt  The time the token was issued.
+ * @param expiresAt The time the token expires.
+ */
+public record VerifiedJwt(String username, Instant issuedAt, Instant expiresAt) {
+}
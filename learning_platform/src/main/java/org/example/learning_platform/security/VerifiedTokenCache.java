@@ -0,0 +1,97 @@
+package org.example.learning_platform.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of already verified access tokens, so hot clients reusing one token pay the parse and HMAC check once.
+ * Tokens are keyed by the token string itself, so a hit costs one hash lookup, and each entry lives until the
+ * token expires.
+ * Hit and miss counts and the hit ratio are published as `jwt.verification.cache.*` meters.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final Cache<String, VerifiedJwt> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final JwtUtils jwtUtils;
+
+    public VerifiedTokenCache(JwtUtils jwtUtils,
+                              @Value("${security.verified-token-cache.max-size:10000}") int maxSize) {
+        this.jwtUtils = jwtUtils;
+        this.entries = Caffeine.newBuilder()
+                .expireAfter(new UntilTokenExpiry())
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Returns the verified claims of the token, or `null` if the token is invalid or expired.
+     */
+    public VerifiedJwt verify(String token) {
+        VerifiedJwt cached = entries.getIfPresent(token);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        VerifiedJwt verified = jwtUtils.verify(token);
+        if (verified != null) {
+            entries.put(token, verified);
+        }
+        return verified;
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.verification.cache.hits", hits, LongAdder::sum)
+                .description("Access tokens served from the verified token cache")
+                .register(registry);
+        FunctionCounter.builder("jwt.verification.cache.misses", misses, LongAdder::sum)
+                .description("Access tokens that had to be parsed and verified")
+                .register(registry);
+        Gauge.builder("jwt.verification.cache.hit.ratio", this, VerifiedTokenCache::hitRatio)
+                .register(registry);
+        Gauge.builder("jwt.verification.cache.size", entries, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    /**
+     * Keeps each token until it expires, and no longer; reads and replacements do not extend it.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedJwt> {
+        @Override
+        public long expireAfterCreate(String token, VerifiedJwt jwt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), jwt.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedJwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedJwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
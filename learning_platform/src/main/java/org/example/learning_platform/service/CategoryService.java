@@ -3,7 +3,11 @@ package org.example.learning_platform.service;
 import org.example.learning_platform.dto.CategoryDto;
 import org.example.learning_platform.entity.Category;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing `Category` entities.
@@ -27,6 +31,14 @@ public interface CategoryService {
      */
     Category getCategoryEntityByName(String name);
 
+    /**
+     * Retrieves all `Category` entities with the given IDs at once, keyed by ID.
+     *
+     * @param ids The unique identifiers of the categories.
+     * @return A map from category ID to the corresponding `Category` entity.
+     */
+    Map<Long, Category> getCategoriesByIds(Collection<Long> ids);
+
     /**
      * Retrieves a `CategoryDto` object by its name.
      *
@@ -64,4 +76,13 @@ public interface CategoryService {
      * @return a list of category DTO responses sorted by name.
      */
     List<CategoryDto> sortByName();
+
+    /**
+     * Writes all categories to the given output as newline-delimited JSON, one `CategoryDto` per line.
+     * Rows are streamed from the database and written as they are read, so memory use does not depend on the table size.
+     *
+     * @param output The output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    void exportCategories(OutputStream output) throws IOException;
 }
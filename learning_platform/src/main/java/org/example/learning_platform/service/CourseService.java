@@ -1,10 +1,16 @@
 package org.example.learning_platform.service;
 
 import org.example.learning_platform.dto.CourseDtoRequest;
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.CourseDtoResponse;
+import org.example.learning_platform.dto.CourseSearchResultDto;
 import org.example.learning_platform.entity.Course;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing `Course` entities.
@@ -20,6 +26,15 @@ public interface CourseService {
      */
     Course getCourseById(Long id);
 
+    /**
+     * Retrieves an uninitialized reference to a `Course`, for wiring associations without loading the course.
+     * The course's existence is enforced by the foreign key when the referencing row is written.
+     *
+     * @param id The unique identifier of the course.
+     * @return A reference to the course with the provided ID.
+     */
+    Course getCourseReference(Long id);
+
     /**
      * Retrieves a `Course` entity by its name.
      *
@@ -28,14 +43,33 @@ public interface CourseService {
      */
     Course getCourseEntityByName(String name);
 
+    /**
+     * Retrieves all `Course` entities with the given IDs in one query, keyed by ID.
+     *
+     * @param ids The unique identifiers of the courses.
+     * @return A map from course ID to the corresponding `Course` entity.
+     */
+    Map<Long, Course> getCoursesByIds(Collection<Long> ids);
+
     /**
      * Retrieves a list of `CourseDtoResponse` objects by course name.
+     * Every word of the name must start a word of the course title, ignoring case.
      *
      * @param name The name of the course to search for.
      * @return A list of `CourseDtoResponse` objects corresponding to the provided course name.
      */
     List<CourseDtoResponse> getCourseByName(String name);
 
+    /**
+     * Searches courses by title, description, category name and instructor name using the in-memory search index.
+     * Every query word must match a word of the course, either exactly or as a prefix.
+     *
+     * @param query The search text.
+     * @param limit The maximum number of results, or `null` for the default.
+     * @return The best matching courses with their relevance scores, most relevant first.
+     */
+    List<CourseSearchResultDto> searchCourses(String query, Integer limit);
+
     /**
      * Retrieves all courses available in the system.
      *
@@ -43,6 +77,15 @@ public interface CourseService {
      */
     List<CourseDtoResponse> getAllCourses();
 
+    /**
+     * Retrieves one page of courses ordered by ID using keyset pagination.
+     *
+     * @param after The opaque cursor returned with the previous page, or `null` for the first page.
+     * @param limit The maximum number of courses on the page, or `null` for the default page size.
+     * @return A `CursorPage` of `CourseDtoResponse` objects and the cursor of the next page.
+     */
+    CursorPage<CourseDtoResponse> getCoursesPage(String after, Integer limit);
+
     /**
      * Retrieves a list of `CourseDtoResponse` objects by category name.
      *
@@ -86,28 +129,41 @@ public interface CourseService {
     /**
      * Sorts courses by duration.
      *
+     * @param limit The maximum number of courses to return, or `null` for all courses.
      * @return A list of `CourseDtoResponse` objects sorted by duration.
      */
-    List<CourseDtoResponse> sortByDuration();
+    List<CourseDtoResponse> sortByDuration(Integer limit);
 
     /**
      * Sorts courses by price.
      *
+     * @param limit The maximum number of courses to return, or `null` for all courses.
      * @return A list of `CourseDtoResponse` objects sorted by price.
      */
-    List<CourseDtoResponse> sortByPrice();
+    List<CourseDtoResponse> sortByPrice(Integer limit);
 
     /**
      * Sorts courses by the number of enrollments.
      *
+     * @param limit The maximum number of courses to return, or `null` for all courses.
      * @return A list of `CourseDtoResponse` objects sorted by enrollments.
      */
-    List<CourseDtoResponse> sortByEnrollments();
+    List<CourseDtoResponse> sortByEnrollments(Integer limit);
 
     /**
      * Sorts courses by rating.
      *
+     * @param limit The maximum number of courses to return, or `null` for all courses.
      * @return A list of `CourseDtoResponse` objects sorted by rating.
      */
-    List<CourseDtoResponse> sortByRating();
+    List<CourseDtoResponse> sortByRating(Integer limit);
+
+    /**
+     * Writes all courses to the given output as newline-delimited JSON, one `CourseDtoResponse` per line.
+     * Rows are streamed from the database and written as they are read, so memory use does not depend on the table size.
+     *
+     * @param output The output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    void exportCourses(OutputStream output) throws IOException;
 }
@@ -0,0 +1,35 @@
+package org.example.learning_platform.service;
+
+import org.example.learning_platform.dto.CourseDtoResponse;
+import reactor.core.publisher.Flux;
+
+/**
+ * Service interface for the non-blocking, read-only course browsing path.
+ * Each method returns a lazy `Flux` that reads courses page by page as the subscriber requests them,
+ * so a slow client slows down reading instead of buffering the whole result.
+ */
+public interface CourseStreamService {
+
+    /**
+     * Streams all courses in ascending ID order.
+     *
+     * @return A `Flux` of `CourseDtoResponse` objects for all courses.
+     */
+    Flux<CourseDtoResponse> streamAllCourses();
+
+    /**
+     * Streams the courses of a category in ascending ID order.
+     *
+     * @param categoryName The category name.
+     * @return A `Flux` of `CourseDtoResponse` objects for the category.
+     */
+    Flux<CourseDtoResponse> streamCoursesByCategoryName(String categoryName);
+
+    /**
+     * Streams the courses of an instructor in ascending ID order.
+     *
+     * @param instructorName The instructor name.
+     * @return A `Flux` of `CourseDtoResponse` objects for the instructor.
+     */
+    Flux<CourseDtoResponse> streamCoursesByInstructorName(String instructorName);
+}
@@ -0,0 +1,33 @@
+package org.example.learning_platform.service;
+
+/**
+ * Service interface for maintaining `Course.totalEnrollments`.
+ * Enrollment changes are absorbed by in-memory counters and written to the `course` table in periodic batches,
+ * so that a burst of enrollments into one popular course does not serialize on that course's row lock.
+ */
+public interface EnrollmentCounterService {
+
+    /**
+     * Records a new enrollment in the given course.
+     *
+     * @param courseId The unique identifier of the course.
+     */
+    void increment(Long courseId);
+
+    /**
+     * Records a removed enrollment from the given course.
+     *
+     * @param courseId The unique identifier of the course.
+     */
+    void decrement(Long courseId);
+
+    /**
+     * Writes all pending enrollment deltas to the database in one batch.
+     */
+    void flush();
+
+    /**
+     * Recomputes `totalEnrollments` of every course from the enrollment table.
+     */
+    void reconcile();
+}
@@ -1,8 +1,12 @@
 package org.example.learning_platform.service;
 
+import org.example.learning_platform.dto.BulkEnrollmentResultDto;
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.EnrollmentDto;
 import org.example.learning_platform.entity.Enrollment;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -42,6 +46,15 @@ public interface EnrollmentService {
      */
     List<EnrollmentDto> getAllEnrollments();
 
+    /**
+     * Retrieves one page of enrollments ordered by ID using keyset pagination.
+     *
+     * @param after The opaque cursor returned with the previous page, or `null` for the first page.
+     * @param limit The maximum number of enrollments on the page, or `null` for the default page size.
+     * @return A `CursorPage` of `EnrollmentDto` objects and the cursor of the next page.
+     */
+    CursorPage<EnrollmentDto> getEnrollmentsPage(String after, Integer limit);
+
     /**
      * Creates a new enrollment.
      *
@@ -50,6 +63,16 @@ public interface EnrollmentService {
      */
     EnrollmentDto createEnrollment(EnrollmentDto enrollmentDtoRequest);
 
+    /**
+     * Creates many enrollments at once.
+     * Students and courses are resolved with set-based queries and the new enrollments are inserted in JDBC batches.
+     * Rows whose student or course does not exist, or whose pair is already enrolled, are reported and skipped.
+     *
+     * @param enrollmentDtoRequests The (student name, course ID) pairs to enroll.
+     * @return One `BulkEnrollmentResultDto` per request row, in request order.
+     */
+    List<BulkEnrollmentResultDto> createEnrollments(List<EnrollmentDto> enrollmentDtoRequests);
+
     /**
      * Deletes an enrollment by course ID and student name.
      *
@@ -74,4 +97,13 @@ public interface EnrollmentService {
      * @return A list of `EnrollmentDto` objects sorted by completion status.
      */
     List<EnrollmentDto> sortByCompletionStatus(Boolean completionStatus, List<EnrollmentDto> enrollmentDtoList);
+
+    /**
+     * Writes all enrollments to the given output as newline-delimited JSON, one `EnrollmentDto` per line.
+     * Rows are streamed from the database and written as they are read, so memory use does not depend on the table size.
+     *
+     * @param output The output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    void exportEnrollments(OutputStream output) throws IOException;
 }
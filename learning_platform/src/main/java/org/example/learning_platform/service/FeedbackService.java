@@ -1,8 +1,11 @@
 package org.example.learning_platform.service;
 
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.FeedbackDto;
 import org.example.learning_platform.entity.Feedback;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -42,6 +45,15 @@ public interface FeedbackService {
      */
     List<FeedbackDto> getAllFeedbacks();
 
+    /**
+     * Retrieves one page of feedbacks ordered by ID using keyset pagination.
+     *
+     * @param after The opaque cursor returned with the previous page, or `null` for the first page.
+     * @param limit The maximum number of feedbacks on the page, or `null` for the default page size.
+     * @return A `CursorPage` of `FeedbackDto` objects and the cursor of the next page.
+     */
+    CursorPage<FeedbackDto> getFeedbacksPage(String after, Integer limit);
+
     /**
      * Creates a new feedback.
      *
@@ -78,4 +90,13 @@ public interface FeedbackService {
      * @return A list of `FeedbackDto` objects sorted by feedback date.
      */
     List<FeedbackDto> sortByFeedbackDate();
+
+    /**
+     * Writes all feedbacks to the given output as newline-delimited JSON, one `FeedbackDto` per line.
+     * Rows are streamed from the database and written as they are read, so memory use does not depend on the table size.
+     *
+     * @param output The output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    void exportFeedbacks(OutputStream output) throws IOException;
 }
@@ -1,9 +1,14 @@
 package org.example.learning_platform.service;
 
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.InstructorDto;
 import org.example.learning_platform.entity.Instructor;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing `Instructor` entities.
@@ -27,6 +32,14 @@ public interface InstructorService {
      */
     Instructor getInstructorEntityByName(String name);
 
+    /**
+     * Retrieves all `Instructor` entities with the given IDs in one query, keyed by ID.
+     *
+     * @param ids The unique identifiers of the instructors.
+     * @return A map from instructor ID to the corresponding `Instructor` entity.
+     */
+    Map<Long, Instructor> getInstructorsByIds(Collection<Long> ids);
+
     /**
      * Retrieves a list of `InstructorDto` objects by name.
      *
@@ -42,6 +55,15 @@ public interface InstructorService {
      */
     List<InstructorDto> getAllInstructors();
 
+    /**
+     * Retrieves one page of instructors ordered by ID using keyset pagination.
+     *
+     * @param after The opaque cursor returned with the previous page, or `null` for the first page.
+     * @param limit The maximum number of instructors on the page, or `null` for the default page size.
+     * @return A `CursorPage` of `InstructorDto` objects and the cursor of the next page.
+     */
+    CursorPage<InstructorDto> getInstructorsPage(String after, Integer limit);
+
     /**
      * Creates a new instructor.
      *
@@ -64,4 +86,31 @@ public interface InstructorService {
      * @return A list of `InstructorDto` objects sorted by name.
      */
     List<InstructorDto> sortByName();
+
+    /**
+     * Retrieves one page of instructors sorted by name using keyset pagination on the name, with the ID breaking ties.
+     *
+     * @param after The opaque cursor returned with the previous page, or `null` for the first page.
+     * @param limit The maximum number of instructors on the page, or `null` for the default page size.
+     * @return A `CursorPage` of `InstructorDto` objects sorted by name and the cursor of the next page.
+     */
+    CursorPage<InstructorDto> sortByName(String after, Integer limit);
+
+    /**
+     * Writes all instructors to the given output as newline-delimited JSON, one `InstructorDto` per line.
+     * Rows are streamed from the database and written as they are read, so memory use does not depend on the table size.
+     *
+     * @param output The output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    void exportInstructors(OutputStream output) throws IOException;
+
+    /**
+     * Completes a typed prefix to instructor names using the in-memory name trie.
+     *
+     * @param prefix The typed prefix, matched case-insensitively against the start of names.
+     * @param limit  The maximum number of names to return, or `null` for the default.
+     * @return Distinct instructor names starting with the prefix, in alphabetical order.
+     */
+    List<String> autocomplete(String prefix, Integer limit);
 }
@@ -1,9 +1,14 @@
 package org.example.learning_platform.service;
 
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.StudentDto;
 import org.example.learning_platform.entity.Student;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing `Student` entities.
@@ -27,6 +32,31 @@ public interface StudentService {
      */
     Student getStudentEntityByName(String name);
 
+    /**
+     * Retrieves the ID of a `Student` by its name, from the name-to-ID cache when possible.
+     *
+     * @param name The name of the student.
+     * @return The ID of the student with the provided name.
+     */
+    Long getStudentIdByName(String name);
+
+    /**
+     * Retrieves an uninitialized reference to a `Student` by its name, for wiring associations
+     * without loading the student.
+     *
+     * @param name The name of the student.
+     * @return A reference to the student with the provided name.
+     */
+    Student getStudentReferenceByName(String name);
+
+    /**
+     * Retrieves all `Student` entities with the given names in one query, keyed by name.
+     *
+     * @param names The exact names of the students.
+     * @return A map from student name to the corresponding `Student` entity.
+     */
+    Map<String, Student> getStudentsByNames(Collection<String> names);
+
     /**
      * Retrieves a list of `StudentDto` objects by student name.
      *
@@ -50,6 +80,15 @@ public interface StudentService {
      */
     List<StudentDto> getAllStudents();
 
+    /**
+     * Retrieves one page of students ordered by ID using keyset pagination.
+     *
+     * @param after The opaque cursor returned with the previous page, or `null` for the first page.
+     * @param limit The maximum number of students on the page, or `null` for the default page size.
+     * @return A `CursorPage` of `StudentDto` objects and the cursor of the next page.
+     */
+    CursorPage<StudentDto> getStudentsPage(String after, Integer limit);
+
     /**
      * Creates a new student.
      *
@@ -72,4 +111,31 @@ public interface StudentService {
      * @return A list of `StudentDto` objects sorted by name.
      */
     List<StudentDto> sortByName();
+
+    /**
+     * Retrieves one page of students sorted by name using keyset pagination on the name, with the ID breaking ties.
+     *
+     * @param after The opaque cursor returned with the previous page, or `null` for the first page.
+     * @param limit The maximum number of students on the page, or `null` for the default page size.
+     * @return A `CursorPage` of `StudentDto` objects sorted by name and the cursor of the next page.
+     */
+    CursorPage<StudentDto> sortByName(String after, Integer limit);
+
+    /**
+     * Writes all students to the given output as newline-delimited JSON, one `StudentDto` per line.
+     * Rows are streamed from the database and written as they are read, so memory use does not depend on the table size.
+     *
+     * @param output The output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    void exportStudents(OutputStream output) throws IOException;
+
+    /**
+     * Completes a typed prefix to student names using the in-memory name trie.
+     *
+     * @param prefix The typed prefix, matched case-insensitively against the start of names.
+     * @param limit  The maximum number of names to return, or `null` for the default.
+     * @return Distinct student names starting with the prefix, in alphabetical order.
+     */
+    List<String> autocomplete(String prefix, Integer limit);
 }
@@ -6,30 +6,56 @@ import org.example.learning_platform.repository.CategoryRepository;
 import org.example.learning_platform.service.CategoryService;
 import org.example.learning_platform.utils.exception.AlreadyExistException;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
+import org.example.learning_platform.utils.catalog.CategoryCatalog;
+import org.example.learning_platform.utils.catalog.CategoryChangedEvent;
+import org.example.learning_platform.utils.cache.TableVersions;
+import org.example.learning_platform.utils.export.NdjsonExporter;
 import org.example.learning_platform.utils.mapper.CategoryMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing categories.
+ * All reads are served from the in-memory `CategoryCatalog`; writes go to the database and
+ * publish a `CategoryChangedEvent` that refreshes the catalog after commit.
  */
 @Service
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryCatalog categoryCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NdjsonExporter ndjsonExporter;
+    private final TableVersions tableVersions;
 
     /**
      * Constructor for CategoryServiceImpl.
      *
      * @param categoryRepository the repository for accessing category data.
      * @param categoryMapper     the mapper for converting between Category entities and DTOs.
+     * @param categoryCatalog    the in-memory catalog serving category reads.
+     * @param eventPublisher     the publisher of category change events.
+     * @param ndjsonExporter     the writer used to export categories as newline-delimited JSON.
+     * @param tableVersions      the version counters behind the catalog ETags.
      */
-    public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryMapper categoryMapper,
+                               CategoryCatalog categoryCatalog, ApplicationEventPublisher eventPublisher,
+                               NdjsonExporter ndjsonExporter, TableVersions tableVersions) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
+        this.categoryCatalog = categoryCatalog;
+        this.eventPublisher = eventPublisher;
+        this.ndjsonExporter = ndjsonExporter;
+        this.tableVersions = tableVersions;
     }
 
     /**
@@ -54,20 +80,24 @@ public class CategoryServiceImpl implements CategoryService {
      * @throws AlreadyExistException if the category name already exists.
      */
     private boolean isNameExist(String name) {
-        if (categoryRepository.isNameExist(name)) {
+        if (categoryCatalog.findByName(name).isPresent()) {
             throw new AlreadyExistException("Category", "name");
         }
         return false;
     }
 
     /**
-     * Saves a category entity to the database.
+     * Saves a category entity to the database and notifies the catalog of the change.
+     * The table version is bumped after the catalog has been refreshed, so a new ETag never describes the old catalog.
      *
      * @param category the category entity to save.
      * @return the saved category entity.
      */
     private Category save(Category category) {
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved));
+        tableVersions.bump(TableVersions.Table.CATEGORY);
+        return saved;
     }
 
     /**
@@ -79,7 +109,7 @@ public class CategoryServiceImpl implements CategoryService {
      */
     @Override
     public Category getCategoryById(Long id) {
-        return categoryRepository.findById(id)
+        return categoryCatalog.findById(id)
                 .orElseThrow(() -> new ObjectNotFoundException("Category"));
     }
 
@@ -92,10 +122,24 @@ public class CategoryServiceImpl implements CategoryService {
      */
     @Override
     public Category getCategoryEntityByName(String name) {
-        return categoryRepository.findByName(name)
+        return categoryCatalog.findByName(name)
                 .orElseThrow(() -> new ObjectNotFoundException("Category"));
     }
 
+    /**
+     * Retrieves categories by a collection of IDs from the catalog.
+     *
+     * @param ids the IDs of the categories.
+     * @return a map from category ID to category entity; missing IDs are absent from the map.
+     */
+    @Override
+    public Map<Long, Category> getCategoriesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return categoryCatalog.findByIds(ids);
+    }
+
     /**
      * Retrieves a category DTO by name.
      *
@@ -105,8 +149,7 @@ public class CategoryServiceImpl implements CategoryService {
      */
     @Override
     public CategoryDto getCategoryByName(String name) {
-        return categoryMapper.entityToDto(categoryRepository.findByName(name)
-                .orElseThrow(() -> new ObjectNotFoundException("Category")));
+        return categoryMapper.entityToDto(getCategoryEntityByName(name));
     }
 
     /**
@@ -116,7 +159,7 @@ public class CategoryServiceImpl implements CategoryService {
      */
     @Override
     public List<CategoryDto> getAllCategories() {
-        return categoryMapper.entityToDtoList(categoryRepository.findAll());
+        return categoryMapper.entityToDtoList(categoryCatalog.findAll());
     }
 
     /**
@@ -145,7 +188,9 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public CategoryDto updateCategory(CategoryDto categoryDto) {
         Category oldCategory = categoryMapper.dtoToEntity(categoryDto);
-        Category newCategory = getCategoryById(categoryDto.getId());
+        // Load the row itself: catalog entries are shared read-only copies.
+        Category newCategory = categoryRepository.findById(categoryDto.getId())
+                .orElseThrow(() -> new ObjectNotFoundException("Category"));
 
         // Check if the name has been changed to avoid conflicts with existing names.
         if (!newCategory.getName().equals(oldCategory.getName())) {
@@ -174,4 +219,16 @@ public class CategoryServiceImpl implements CategoryService {
                 .sorted(Comparator.comparing(CategoryDto::getName)) // Sort by course name
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Exports all categories as newline-delimited JSON, streaming them from a database cursor.
+     *
+     * @param output the output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCategories(OutputStream output) throws IOException {
+        ndjsonExporter.write(categoryRepository.streamAll(), categoryMapper::entityToDto, output);
+    }
 }
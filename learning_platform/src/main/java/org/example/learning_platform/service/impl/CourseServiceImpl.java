@@ -1,17 +1,31 @@
 package org.example.learning_platform.service.impl;
 
 import org.example.learning_platform.dto.CourseDtoRequest;
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.CourseDtoResponse;
+import org.example.learning_platform.dto.CourseSearchResultDto;
 import org.example.learning_platform.entity.Course;
 import org.example.learning_platform.repository.CourseRepository;
 import org.example.learning_platform.service.CourseService;
+import org.example.learning_platform.utils.cache.TableVersions;
 import org.example.learning_platform.utils.exception.AlreadyExistException;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.example.learning_platform.utils.mapper.CourseMapper;
+import org.example.learning_platform.utils.pagination.CursorPagination;
+import org.example.learning_platform.utils.search.CourseSearchIndex;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.example.learning_platform.utils.export.NdjsonExporter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -21,16 +35,27 @@ import java.util.stream.Collectors;
 public class CourseServiceImpl implements CourseService {
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
+    private final CourseSearchIndex courseSearchIndex;
+    private final NdjsonExporter ndjsonExporter;
+    private final TableVersions tableVersions;
 
     /**
      * Constructor for CourseServiceImpl.
      *
      * @param courseRepository the repository for accessing course data.
      * @param courseMapper     the mapper for converting between Course entities and DTOs.
+     * @param courseSearchIndex the in-memory full-text index of courses.
+     * @param ndjsonExporter    the writer used to export courses as newline-delimited JSON.
+     * @param tableVersions     the version counters behind the catalog ETags.
      */
-    public CourseServiceImpl(CourseRepository courseRepository, CourseMapper courseMapper) {
+    public CourseServiceImpl(CourseRepository courseRepository, CourseMapper courseMapper,
+                             CourseSearchIndex courseSearchIndex, NdjsonExporter ndjsonExporter,
+                             TableVersions tableVersions) {
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
+        this.courseSearchIndex = courseSearchIndex;
+        this.ndjsonExporter = ndjsonExporter;
+        this.tableVersions = tableVersions;
     }
 
     /**
@@ -48,13 +73,16 @@ public class CourseServiceImpl implements CourseService {
     }
 
     /**
-     * Saves a course entity to the database.
+     * Saves a course entity to the database, updates the search index and bumps the course table version.
      *
      * @param course the course entity to save.
      * @return the saved course entity.
      */
     private Course save(Course course) {
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        courseSearchIndex.index(saved);
+        tableVersions.bump(TableVersions.Table.COURSE);
+        return saved;
     }
 
     /**
@@ -70,6 +98,17 @@ public class CourseServiceImpl implements CourseService {
                 .orElseThrow(() -> new ObjectNotFoundException("Course"));
     }
 
+    /**
+     * Retrieves a reference to a course without querying the database.
+     *
+     * @param id the ID of the course.
+     * @return an uninitialized reference to the course.
+     */
+    @Override
+    public Course getCourseReference(Long id) {
+        return courseRepository.getReferenceById(id);
+    }
+
     /**
      * Retrieves a course entity by name.
      *
@@ -83,16 +122,55 @@ public class CourseServiceImpl implements CourseService {
                 .orElseThrow(() -> new ObjectNotFoundException("Course"));
     }
 
+    /**
+     * Retrieves courses by a collection of IDs using a single query.
+     *
+     * @param ids the IDs of the courses.
+     * @return a map from course ID to course entity; missing IDs are absent from the map.
+     */
+    @Override
+    public Map<Long, Course> getCoursesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return courseRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+    }
+
     /**
      * Retrieves a list of course DTO responses by name.
+     * Titles are matched through the in-memory index, and the matching courses are loaded with one batched query.
      *
      * @param name the name of the course.
-     * @return a list of course DTO responses.
-     * @throws ObjectNotFoundException if no courses with the given name exist.
+     * @return a list of course DTO responses, in ascending ID order.
      */
     @Override
     public List<CourseDtoResponse> getCourseByName(String name) {
-        return courseMapper.entityToDtoList(courseRepository.findByNameContains(name));
+        List<Long> ids = courseSearchIndex.findByTitle(name);
+        Map<Long, Course> courses = getCoursesByIds(ids);
+        return courseMapper.entityToDtoList(ids.stream().map(courses::get).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * Searches courses through the in-memory index and loads the hits with one batched query.
+     *
+     * @param query the search text.
+     * @param limit the maximum number of results, or null for the default.
+     * @return the matching courses with their scores, most relevant first.
+     */
+    @Override
+    public List<CourseSearchResultDto> searchCourses(String query, Integer limit) {
+        List<CourseSearchIndex.Hit> hits = courseSearchIndex.search(query, CursorPagination.clampLimit(limit));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Course> courses = getCoursesByIds(hits.stream().map(CourseSearchIndex.Hit::courseId).toList());
+        Map<Long, CourseDtoResponse> dtos = courseMapper.entityToDtoList(List.copyOf(courses.values())).stream()
+                .collect(Collectors.toMap(CourseDtoResponse::getId, Function.identity()));
+        return hits.stream()
+                .filter(hit -> dtos.containsKey(hit.courseId()))
+                .map(hit -> new CourseSearchResultDto(dtos.get(hit.courseId()), hit.score()))
+                .toList();
     }
 
     /**
@@ -105,6 +183,20 @@ public class CourseServiceImpl implements CourseService {
         return courseMapper.entityToDtoList(courseRepository.findAll());
     }
 
+    /**
+     * Retrieves one page of courses ordered by ID.
+     *
+     * @param after the cursor of the previous page, or null for the first page.
+     * @param limit the page size, or null for the default.
+     * @return a page of course DTOs.
+     */
+    @Override
+    public CursorPage<CourseDtoResponse> getCoursesPage(String after, Integer limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        return CursorPagination.toPage(courseRepository.findPageAfterId(CursorPagination.decodeId(after), CursorPagination.seek(pageSize)),
+                pageSize, courseMapper::entityToDtoList, Course::getId);
+    }
+
     /**
      * Retrieves courses by category name as DTO responses.
      *
@@ -148,6 +240,8 @@ public class CourseServiceImpl implements CourseService {
     public CourseDtoResponse createCourse(CourseDtoRequest courseDtoRequest) {
         Course course = courseMapper.dtoToEntity(courseDtoRequest);
         course.setAverageRating(0.0F);
+        course.setRatingSum(0.0);
+        course.setRatingCount(0);
         course.setTotalEnrollments(0);
         return courseMapper.entityToDto(save(course));
     }
@@ -188,50 +282,68 @@ public class CourseServiceImpl implements CourseService {
     }
 
     /**
-     * Sorts courses by duration.
+     * Builds the `Pageable` for a top-N sort query.
      *
+     * @param limit the maximum number of courses, or null for all courses.
+     * @return an unpaged request when no limit is given, otherwise the first `limit` rows.
+     */
+    private Pageable topN(Integer limit) {
+        return limit == null ? Pageable.unpaged() : PageRequest.of(0, CursorPagination.clampLimit(limit));
+    }
+
+    /**
+     * Sorts courses by duration in the database.
+     *
+     * @param limit the maximum number of courses to return, or null for all courses.
      * @return a list of course DTO responses sorted by duration.
      */
     @Override
-    public List<CourseDtoResponse> sortByDuration() {
-        return getAllCourses().stream()
-                .sorted(Comparator.comparingInt(CourseDtoResponse::getDuration))
-                .collect(Collectors.toList());
+    public List<CourseDtoResponse> sortByDuration(Integer limit) {
+        return courseMapper.entityToDtoList(courseRepository.findAllOrderByDuration(topN(limit)));
     }
 
     /**
-     * Sorts courses by price.
+     * Sorts courses by price in the database.
      *
+     * @param limit the maximum number of courses to return, or null for all courses.
      * @return a list of course DTO responses sorted by price.
      */
     @Override
-    public List<CourseDtoResponse> sortByPrice() {
-        return getAllCourses().stream()
-                .sorted(Comparator.comparingDouble(CourseDtoResponse::getPrice))
-                .collect(Collectors.toList());
+    public List<CourseDtoResponse> sortByPrice(Integer limit) {
+        return courseMapper.entityToDtoList(courseRepository.findAllOrderByPrice(topN(limit)));
     }
 
     /**
-     * Sorts courses by total enrollments.
+     * Sorts courses by total enrollments in the database.
      *
+     * @param limit the maximum number of courses to return, or null for all courses.
      * @return a list of course DTO responses sorted by total enrollments.
      */
     @Override
-    public List<CourseDtoResponse> sortByEnrollments() {
-        return getAllCourses().stream()
-                .sorted(Comparator.comparingInt(CourseDtoResponse::getTotalEnrollments))
-                .collect(Collectors.toList());
+    public List<CourseDtoResponse> sortByEnrollments(Integer limit) {
+        return courseMapper.entityToDtoList(courseRepository.findAllOrderByEnrollments(topN(limit)));
     }
 
     /**
-     * Sorts courses by average rating.
+     * Sorts courses by average rating in the database.
      *
+     * @param limit the maximum number of courses to return, or null for all courses.
      * @return a list of course DTO responses sorted by average rating in descending order.
      */
     @Override
-    public List<CourseDtoResponse> sortByRating() {
-        return getAllCourses().stream()
-                .sorted(Comparator.comparingDouble(CourseDtoResponse::getAverageRating).reversed())
-                .collect(Collectors.toList());
+    public List<CourseDtoResponse> sortByRating(Integer limit) {
+        return courseMapper.entityToDtoList(courseRepository.findAllOrderByRating(topN(limit)));
+    }
+
+    /**
+     * Exports all courses as newline-delimited JSON, streaming them from a database cursor.
+     *
+     * @param output the output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCourses(OutputStream output) throws IOException {
+        ndjsonExporter.write(courseRepository.streamAll(), courseMapper::fetchedEntityToDto, output);
     }
 }
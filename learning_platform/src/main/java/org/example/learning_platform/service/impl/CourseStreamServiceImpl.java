@@ -0,0 +1,113 @@
+package org.example.learning_platform.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.example.learning_platform.dto.CourseDtoResponse;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.repository.CourseRepository;
+import org.example.learning_platform.service.CourseStreamService;
+import org.example.learning_platform.utils.mapper.CourseMapper;
+import org.example.learning_platform.utils.pagination.CursorPagination;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * Service implementation of the streaming course browsing path.
+ * Courses are read in keyset pages; the next page is only queried once the subscriber has demand for it.
+ * The blocking JPA calls run on a virtual-thread scheduler, so no request thread waits on the database
+ * and an idle subscription holds neither a thread nor a connection.
+ */
+@Service
+public class CourseStreamServiceImpl implements CourseStreamService {
+    private static final int PAGE_SIZE = CursorPagination.MAX_LIMIT;
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final Scheduler scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "course-stream");
+
+    /**
+     * Constructor for CourseStreamServiceImpl.
+     *
+     * @param courseRepository the repository for accessing course data.
+     * @param courseMapper     the mapper for converting between Course entities and DTOs.
+     */
+    public CourseStreamServiceImpl(CourseRepository courseRepository, CourseMapper courseMapper) {
+        this.courseRepository = courseRepository;
+        this.courseMapper = courseMapper;
+    }
+
+    /**
+     * Streams all courses.
+     *
+     * @return a lazy flux of course DTOs in ascending ID order.
+     */
+    @Override
+    public Flux<CourseDtoResponse> streamAllCourses() {
+        return stream(courseRepository::findPageAfterId);
+    }
+
+    /**
+     * Streams the courses of a category.
+     *
+     * @param categoryName the category name.
+     * @return a lazy flux of course DTOs in ascending ID order.
+     */
+    @Override
+    public Flux<CourseDtoResponse> streamCoursesByCategoryName(String categoryName) {
+        return stream((afterId, pageable) -> courseRepository.findPageByCategoryNameAfterId(categoryName, afterId, pageable));
+    }
+
+    /**
+     * Streams the courses of an instructor.
+     *
+     * @param instructorName the instructor name.
+     * @return a lazy flux of course DTOs in ascending ID order.
+     */
+    @Override
+    public Flux<CourseDtoResponse> streamCoursesByInstructorName(String instructorName) {
+        return stream((afterId, pageable) -> courseRepository.findPageByInstructorNameAfterId(instructorName, afterId, pageable));
+    }
+
+    /**
+     * Builds a flux that reads one page, emits its courses, and reads the page after it on demand
+     * until a short page marks the end.
+     *
+     * @param pageQuery the keyset page query, taking the last seen ID and the page size.
+     * @return a lazy flux of course DTOs.
+     */
+    private Flux<CourseDtoResponse> stream(BiFunction<Long, Pageable, List<Course>> pageQuery) {
+        return fetchPage(pageQuery, 0L)
+                .expand(page -> page.size() < PAGE_SIZE
+                        ? Mono.empty()
+                        : fetchPage(pageQuery, page.get(page.size() - 1).getId()))
+                .concatMapIterable(page -> page);
+    }
+
+    /**
+     * Reads and maps one page on the streaming scheduler.
+     *
+     * @param pageQuery the keyset page query.
+     * @param afterId   the ID of the last course already emitted.
+     * @return a mono of the mapped page.
+     */
+    private Mono<List<CourseDtoResponse>> fetchPage(BiFunction<Long, Pageable, List<Course>> pageQuery, Long afterId) {
+        return Mono.fromCallable(() -> courseMapper.entityToDtoList(pageQuery.apply(afterId, PageRequest.of(0, PAGE_SIZE))))
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Stops the streaming scheduler on shutdown.
+     */
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.learning_platform.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.repository.CourseRepository;
+import org.example.learning_platform.service.EnrollmentCounterService;
+import org.example.learning_platform.utils.cache.TableVersions;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service implementation for write-behind enrollment counters.
+ * Each course has its own `LongAdder`, so concurrent enrollments only contend on a striped in-memory cell.
+ * The accumulated deltas are flushed with a single JDBC batch of relative updates, and the counters are
+ * reconciled with `COUNT(*)` on startup to recover deltas lost by an unclean shutdown.
+ * The batch bypasses Hibernate, so the flushed courses are evicted from the second-level cache afterwards
+ * and the course table version is bumped.
+ */
+@Service
+public class EnrollmentCounterServiceImpl implements EnrollmentCounterService {
+    private static final String ADD_ENROLLMENTS_SQL =
+            "UPDATE course SET total_enrollments = total_enrollments + ? WHERE id = ?";
+
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    private final CourseRepository courseRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache secondLevelCache;
+    private final TableVersions tableVersions;
+
+    /**
+     * Constructor for EnrollmentCounterServiceImpl.
+     *
+     * @param courseRepository the repository used to reconcile the counters.
+     * @param jdbcTemplate     the template used to flush the deltas in a batch.
+     * @param entityManagerFactory the factory whose second-level cache holds the courses.
+     * @param tableVersions    the version counters behind the catalog ETags.
+     */
+    public EnrollmentCounterServiceImpl(CourseRepository courseRepository, JdbcTemplate jdbcTemplate,
+                                        EntityManagerFactory entityManagerFactory, TableVersions tableVersions) {
+        this.courseRepository = courseRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.secondLevelCache = entityManagerFactory.getCache();
+        this.tableVersions = tableVersions;
+    }
+
+    /**
+     * Records a new enrollment in the given course.
+     *
+     * @param courseId the ID of the course.
+     */
+    @Override
+    public void increment(Long courseId) {
+        pendingDeltas.computeIfAbsent(courseId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a removed enrollment from the given course.
+     *
+     * @param courseId the ID of the course.
+     */
+    @Override
+    public void decrement(Long courseId) {
+        pendingDeltas.computeIfAbsent(courseId, id -> new LongAdder()).decrement();
+    }
+
+    /**
+     * Flushes all pending deltas in one JDBC batch.
+     * If the batch fails, the deltas are added back so they are retried on the next flush.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${enrollment.counter.flush-interval-ms:1000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        pendingDeltas.forEach((courseId, delta) -> {
+            long value = delta.sumThenReset();
+            if (value != 0) {
+                batch.add(new Object[]{value, courseId});
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(ADD_ENROLLMENTS_SQL, batch);
+        } catch (RuntimeException exception) {
+            batch.forEach(row -> pendingDeltas.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]));
+            throw exception;
+        }
+        batch.forEach(row -> secondLevelCache.evict(Course.class, row[1]));
+        tableVersions.bump(TableVersions.Table.COURSE);
+    }
+
+    /**
+     * Recomputes all counters from the enrollment table before the application starts serving requests.
+     */
+    @Override
+    @PostConstruct
+    public void reconcile() {
+        courseRepository.reconcileTotalEnrollments();
+    }
+
+    /**
+     * Flushes the remaining deltas on shutdown.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,16 +1,37 @@
 package org.example.learning_platform.service.impl;
 
+import org.example.learning_platform.dto.BulkEnrollmentResultDto;
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.EnrollmentDto;
+import org.example.learning_platform.entity.Course;
 import org.example.learning_platform.entity.Enrollment;
+import org.example.learning_platform.entity.Student;
 import org.example.learning_platform.repository.EnrollmentRepository;
+import org.example.learning_platform.service.CourseService;
+import org.example.learning_platform.service.EnrollmentCounterService;
 import org.example.learning_platform.service.EnrollmentService;
+import org.example.learning_platform.service.StudentService;
 import org.example.learning_platform.utils.exception.AlreadyExistException;
+import org.example.learning_platform.utils.exception.IntegrityViolations;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.example.learning_platform.utils.mapper.EnrollmentMapper;
+import org.example.learning_platform.utils.pagination.CursorPagination;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -19,17 +40,38 @@ import java.util.stream.Collectors;
 @Service
 public class EnrollmentServiceImpl implements EnrollmentService {
     private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final StudentService studentService;
+    private final CourseService courseService;
     private final EnrollmentMapper enrollmentMapper;
+    private final NdjsonExporter ndjsonExporter;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Constructor for EnrollmentServiceImpl.
      *
-     * @param enrollmentRepository the repository for accessing enrollment data.
-     * @param enrollmentMapper     the mapper for converting between Enrollment entities and DTOs.
+     * @param enrollmentRepository     the repository for accessing enrollment data.
+     * @param enrollmentCounterService the service buffering changes to course enrollment totals.
+     * @param studentService           the service for resolving the students of enrollments.
+     * @param courseService            the service for resolving courses of bulk enrollments.
+     * @param enrollmentMapper         the mapper for converting between Enrollment entities and DTOs.
+     * @param ndjsonExporter           the writer used to export enrollments as newline-delimited JSON.
+     * @param transactionTemplate      the template running the inserts of bulk enrollments.
      */
-    public EnrollmentServiceImpl(EnrollmentRepository enrollmentRepository, EnrollmentMapper enrollmentMapper) {
+    public EnrollmentServiceImpl(EnrollmentRepository enrollmentRepository,
+                                 EnrollmentCounterService enrollmentCounterService,
+                                 StudentService studentService,
+                                 CourseService courseService,
+                                 EnrollmentMapper enrollmentMapper,
+                                 NdjsonExporter ndjsonExporter,
+                                 TransactionTemplate transactionTemplate) {
         this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.studentService = studentService;
+        this.courseService = courseService;
         this.enrollmentMapper = enrollmentMapper;
+        this.ndjsonExporter = ndjsonExporter;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -47,12 +89,29 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 
     /**
      * Saves an enrollment entity to the database.
+     * The student and course are references, so a missing course or a repeated enrollment is only detected
+     * by the database constraints; those violations are translated here.
      *
      * @param enrollment the enrollment entity to save.
      * @return the saved enrollment entity.
+     * @throws ObjectNotFoundException if the course or the student does not exist.
+     * @throws AlreadyExistException  if the student is already enrolled in the course.
      */
     private Enrollment save(Enrollment enrollment) {
-        return enrollmentRepository.save(enrollment);
+        try {
+            return enrollmentRepository.save(enrollment);
+        } catch (DataIntegrityViolationException exception) {
+            if (IntegrityViolations.isMissingReference(exception, "course_id")) {
+                throw new ObjectNotFoundException("Course");
+            }
+            if (IntegrityViolations.isMissingReference(exception, "student_id")) {
+                throw new ObjectNotFoundException("Student");
+            }
+            if (IntegrityViolations.isDuplicate(exception)) {
+                throw new AlreadyExistException("Enrollment", "student and course");
+            }
+            throw new IllegalArgumentException("Enrollment needs an existing student and course.");
+        }
     }
 
     /**
@@ -97,33 +156,172 @@ public class EnrollmentServiceImpl implements EnrollmentService {
      */
     @Override
     public List<EnrollmentDto> getAllEnrollments() {
-        return enrollmentMapper.entityToDtoList(enrollmentRepository.findAll());
+        return enrollmentMapper.entityToDtoList(enrollmentRepository.findAllWithAssociations());
+    }
+
+    /**
+     * Retrieves one page of enrollments ordered by ID.
+     *
+     * @param after the cursor of the previous page, or null for the first page.
+     * @param limit the page size, or null for the default.
+     * @return a page of enrollment DTOs.
+     */
+    @Override
+    public CursorPage<EnrollmentDto> getEnrollmentsPage(String after, Integer limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        return CursorPagination.toPage(enrollmentRepository.findPageAfterId(CursorPagination.decodeId(after), CursorPagination.seek(pageSize)),
+                pageSize, enrollmentMapper::entityToDtoList, Enrollment::getId);
     }
 
     /**
      * Creates a new enrollment.
+     * The student and course are wired as references, so the insert is the only statement issued
+     * once the student's name is in the name-to-ID cache.
      *
      * @param enrollmentDtoRequest the enrollment DTO containing the new enrollment's details.
      * @return the created enrollment DTO.
-     * @throws AlreadyExistException if an enrollment with the same name already exists.
+     * @throws ObjectNotFoundException if the course or the student does not exist.
+     * @throws AlreadyExistException  if the student is already enrolled in the course.
      */
     @Override
     public EnrollmentDto createEnrollment(EnrollmentDto enrollmentDtoRequest) {
         Enrollment newEnrollment = enrollmentMapper.dtoToEntity(enrollmentDtoRequest);
         newEnrollment.setCompletionStatus(false);
-        return enrollmentMapper.entityToDto(save(newEnrollment));
+        Enrollment enrollment = save(newEnrollment);
+        enrollmentCounterService.increment(enrollment.getEnrollmentCourse().getId());
+        return enrollmentMapper.entityToDto(enrollment, enrollmentDtoRequest.getStudentName());
     }
 
     /**
-     * Deletes an enrollment by course ID and student name.
+     * Creates enrollments in bulk.
+     * Students and courses are loaded with one `IN` query each, existing pairs with one more query,
+     * and the new enrollments are inserted in one transaction through Hibernate JDBC batching.
+     * If a concurrent request enrolls one of the pairs, or removes a student or course, between the checks and the
+     * insert, the batch is rolled back and its rows are retried one by one, so each row reports the outcome the
+     * database constraints gave it.
+     * Course enrollment totals are incremented only after the inserts commit.
+     *
+     * @param enrollmentDtoRequests the (student name, course ID) pairs to enroll.
+     * @return the outcome of each row, in request order.
+     */
+    @Override
+    public List<BulkEnrollmentResultDto> createEnrollments(List<EnrollmentDto> enrollmentDtoRequests) {
+        Set<String> studentNames = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (EnrollmentDto request : enrollmentDtoRequests) {
+            if (request.getStudentName() != null) {
+                studentNames.add(request.getStudentName());
+            }
+            if (request.getCourseId() != null) {
+                courseIds.add(request.getCourseId());
+            }
+        }
+        Map<String, Student> students = studentService.getStudentsByNames(studentNames);
+        Map<Long, Course> courses = courseService.getCoursesByIds(courseIds);
+
+        // Pairs already enrolled, plus pairs accepted earlier in this request.
+        Set<List<Long>> enrolledPairs = new HashSet<>();
+        if (!students.isEmpty() && !courses.isEmpty()) {
+            Set<Long> studentIds = new HashSet<>();
+            students.values().forEach(student -> studentIds.add(student.getId()));
+            for (Object[] pair : enrollmentRepository.findExistingPairs(studentIds, courses.keySet())) {
+                enrolledPairs.add(List.of((Long) pair[0], (Long) pair[1]));
+            }
+        }
+
+        List<BulkEnrollmentResultDto> results = new ArrayList<>(enrollmentDtoRequests.size());
+        List<Enrollment> newEnrollments = new ArrayList<>();
+        List<BulkEnrollmentResultDto> createdResults = new ArrayList<>();
+        for (int index = 0; index < enrollmentDtoRequests.size(); index++) {
+            EnrollmentDto request = enrollmentDtoRequests.get(index);
+            Student student = request.getStudentName() == null ? null : students.get(request.getStudentName());
+            Course course = request.getCourseId() == null ? null : courses.get(request.getCourseId());
+            BulkEnrollmentResultDto result = new BulkEnrollmentResultDto(index, request.getStudentName(), request.getCourseId(), null);
+            results.add(result);
+            if (student == null) {
+                result.setStatus(BulkEnrollmentResultDto.Status.STUDENT_NOT_FOUND);
+            } else if (course == null) {
+                result.setStatus(BulkEnrollmentResultDto.Status.COURSE_NOT_FOUND);
+            } else if (!enrolledPairs.add(List.of(student.getId(), course.getId()))) {
+                result.setStatus(BulkEnrollmentResultDto.Status.DUPLICATE);
+            } else {
+                newEnrollments.add(new Enrollment()
+                        .setEnrollmentStudent(student)
+                        .setEnrollmentCourse(course)
+                        .setCompletionStatus(false));
+                createdResults.add(result.setStatus(BulkEnrollmentResultDto.Status.CREATED));
+            }
+        }
+
+        try {
+            List<Enrollment> saved = transactionTemplate.execute(status -> {
+                List<Enrollment> inserted = enrollmentRepository.saveAll(newEnrollments);
+                enrollmentRepository.flush();
+                return inserted;
+            });
+            for (int i = 0; i < saved.size(); i++) {
+                createdResults.get(i).setEnrollmentId(saved.get(i).getId());
+                enrollmentCounterService.increment(saved.get(i).getEnrollmentCourse().getId());
+            }
+        } catch (DataIntegrityViolationException exception) {
+            for (int i = 0; i < newEnrollments.size(); i++) {
+                Enrollment enrollment = newEnrollments.get(i);
+                createEnrollment(enrollment.getEnrollmentStudent(), enrollment.getEnrollmentCourse(), createdResults.get(i));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Inserts one row of a bulk enrollment in its own transaction, recording its outcome in the result.
+     * Used after the batch insert failed, so a violated constraint is reported for its row only.
+     *
+     * @param student the student to enroll.
+     * @param course  the course to enroll the student in.
+     * @param result  the result of the row, updated with the new enrollment ID or the failure.
+     */
+    private void createEnrollment(Student student, Course course, BulkEnrollmentResultDto result) {
+        try {
+            Enrollment enrollment = transactionTemplate.execute(status -> enrollmentRepository.saveAndFlush(new Enrollment()
+                    .setEnrollmentStudent(student)
+                    .setEnrollmentCourse(course)
+                    .setCompletionStatus(false)));
+            result.setEnrollmentId(enrollment.getId());
+            enrollmentCounterService.increment(course.getId());
+        } catch (DataIntegrityViolationException exception) {
+            result.setEnrollmentId(null);
+            if (IntegrityViolations.isDuplicate(exception)) {
+                result.setStatus(BulkEnrollmentResultDto.Status.DUPLICATE);
+            } else if (IntegrityViolations.isMissingReference(exception, "course_id")) {
+                result.setStatus(BulkEnrollmentResultDto.Status.COURSE_NOT_FOUND);
+            } else if (IntegrityViolations.isMissingReference(exception, "student_id")) {
+                result.setStatus(BulkEnrollmentResultDto.Status.STUDENT_NOT_FOUND);
+            } else {
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Deletes an enrollment by course ID and student name with a single `DELETE` statement.
      *
      * @param courseId      the course ID.
      * @param studentName   the student name.
+     * @throws ObjectNotFoundException if the student or the enrollment does not exist.
      */
     @Override
+    @Transactional
     public void deleteEnrollment(Long courseId, String studentName) {
-        Enrollment enrollment = enrollmentRepository.findByStudentNameAndCourseId(studentName, courseId);
-        enrollmentRepository.delete(enrollment);
+        Long studentId = studentService.getStudentIdByName(studentName);
+        if (enrollmentRepository.deleteByStudentIdAndCourseId(studentId, courseId) == 0) {
+            throw new ObjectNotFoundException("Enrollment");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enrollmentCounterService.decrement(courseId);
+            }
+        });
     }
 
     /**
@@ -152,5 +350,16 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .filter(enrollment -> enrollment.getCompletionStatus().equals(completionStatus))
                 .collect(Collectors.toList());
     }
-}
 
+    /**
+     * Exports all enrollments as newline-delimited JSON, streaming them from a database cursor.
+     *
+     * @param output the output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEnrollments(OutputStream output) throws IOException {
+        ndjsonExporter.write(enrollmentRepository.streamAll(), enrollmentMapper::entityToDto, output);
+    }
+}
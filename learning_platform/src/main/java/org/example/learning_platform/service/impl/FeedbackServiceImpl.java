@@ -2,15 +2,25 @@ package org.example.learning_platform.service.impl;
 
 import org.example.learning_platform.dto.*;
 import org.example.learning_platform.entity.Feedback;
+import org.example.learning_platform.repository.CourseRepository;
 import org.example.learning_platform.repository.FeedbackRepository;
 import org.example.learning_platform.service.FeedbackService;
+import org.example.learning_platform.utils.cache.TableVersions;
 import org.example.learning_platform.utils.exception.AlreadyExistException;
+import org.example.learning_platform.utils.exception.IntegrityViolations;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.example.learning_platform.utils.mapper.FeedbackMapper;
+import org.example.learning_platform.utils.pagination.CursorPagination;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -19,17 +29,28 @@ import java.util.stream.Collectors;
 @Service
 public class FeedbackServiceImpl implements FeedbackService {
     private final FeedbackRepository feedbackRepository;
+    private final CourseRepository courseRepository;
     private final FeedbackMapper feedbackMapper;
+    private final NdjsonExporter ndjsonExporter;
+    private final TableVersions tableVersions;
 
     /**
      * Constructor for FeedbackServiceImpl.
      *
      * @param feedbackRepository the repository for accessing feedback data.
+     * @param courseRepository   the repository for maintaining course rating aggregates.
      * @param feedbackMapper     the mapper for converting between Feedback entities and DTOs.
+     * @param ndjsonExporter     the writer used to export feedbacks as newline-delimited JSON.
+     * @param tableVersions      the version counters behind the catalog ETags.
      */
-    public FeedbackServiceImpl(FeedbackRepository feedbackRepository, FeedbackMapper feedbackMapper) {
+    public FeedbackServiceImpl(FeedbackRepository feedbackRepository, CourseRepository courseRepository,
+                               FeedbackMapper feedbackMapper, NdjsonExporter ndjsonExporter,
+                               TableVersions tableVersions) {
         this.feedbackRepository = feedbackRepository;
+        this.courseRepository = courseRepository;
         this.feedbackMapper = feedbackMapper;
+        this.ndjsonExporter = ndjsonExporter;
+        this.tableVersions = tableVersions;
     }
 
     /**
@@ -46,13 +67,26 @@ public class FeedbackServiceImpl implements FeedbackService {
     }
 
     /**
-     * Saves a feedback entity to the database.
+     * Saves a feedback entity to the database and flushes it.
+     * The student and course are references, so a missing course is only detected by the foreign key; the
+     * flush makes the violation surface here, where it is translated, rather than at commit.
      *
      * @param feedback the feedback entity to save.
      * @return the saved feedback entity.
+     * @throws ObjectNotFoundException if the course or the student does not exist.
      */
     private Feedback save(Feedback feedback) {
-        return feedbackRepository.save(feedback);
+        try {
+            return feedbackRepository.saveAndFlush(feedback);
+        } catch (DataIntegrityViolationException exception) {
+            if (IntegrityViolations.isMissingReference(exception, "course_id")) {
+                throw new ObjectNotFoundException("Course");
+            }
+            if (IntegrityViolations.isMissingReference(exception, "student_id")) {
+                throw new ObjectNotFoundException("Student");
+            }
+            throw new IllegalArgumentException("Feedback needs an existing student and course.");
+        }
     }
 
     /**
@@ -76,7 +110,7 @@ public class FeedbackServiceImpl implements FeedbackService {
      */
     @Override
     public List<FeedbackDto> getFeedbackByCourseName(String courseName) {
-        return feedbackMapper.entityToDtoList(feedbackRepository.findByCourseName(courseName));
+        return feedbackRepository.findDtosByCourseName(courseName);
     }
 
     /**
@@ -87,7 +121,7 @@ public class FeedbackServiceImpl implements FeedbackService {
      */
     @Override
     public List<FeedbackDto> getFeedbackByStudentName(String studentName) {
-        return feedbackMapper.entityToDtoList(feedbackRepository.findByStudentName(studentName));
+        return feedbackRepository.findDtosByStudentName(studentName);
     }
 
     /**
@@ -97,31 +131,55 @@ public class FeedbackServiceImpl implements FeedbackService {
      */
     @Override
     public List<FeedbackDto> getAllFeedbacks() {
-        return feedbackMapper.entityToDtoList(feedbackRepository.findAll());
+        return feedbackRepository.findAllDtos();
     }
 
     /**
-     * Creates a new feedback.
+     * Retrieves one page of feedbacks ordered by ID.
+     *
+     * @param after the cursor of the previous page, or null for the first page.
+     * @param limit the page size, or null for the default.
+     * @return a page of feedback DTOs.
+     */
+    @Override
+    public CursorPage<FeedbackDto> getFeedbacksPage(String after, Integer limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        return CursorPagination.toPage(feedbackRepository.findDtoPageAfterId(CursorPagination.decodeId(after), CursorPagination.seek(pageSize)),
+                pageSize, Function.identity(), FeedbackDto::getId);
+    }
+
+    /**
+     * Creates a new feedback and adds its rating to the course rating aggregates.
+     * The student and course are wired as references; the course title of the response is read through
+     * the second-level cache.
      *
      * @param feedbackDtoRequest the feedback DTO containing the new feedback's details.
      * @return the created feedback DTO.
      * @throws AlreadyExistException if a feedback with the same details already exists.
      */
     @Override
+    @Transactional
     public FeedbackDto createFeedback(FeedbackDto feedbackDtoRequest) {
-        return feedbackMapper.entityToDto(save(feedbackMapper.dtoToEntity(feedbackDtoRequest)));
+        Feedback feedback = save(feedbackMapper.dtoToEntity(feedbackDtoRequest));
+        courseRepository.addRating(feedback.getFeedbackCourse().getId(), feedback.getRating());
+        tableVersions.bump(TableVersions.Table.COURSE);
+        return feedbackMapper.entityToDto(feedback, feedbackDtoRequest.getStudentName());
     }
 
     /**
      * Updates an existing feedback.
+     * If the rating or the course changes, the rating aggregates of the affected courses are adjusted.
      *
      * @param feedbackDtoRequest the feedback DTO containing the updated details.
      * @return the updated feedback DTO.
      */
     @Override
+    @Transactional
     public FeedbackDto updateFeedback(FeedbackDto feedbackDtoRequest) {
         Feedback oldFeedback = feedbackMapper.dtoToEntity(feedbackDtoRequest);
         Feedback newFeedback = getFeedbackById(feedbackDtoRequest.getId());
+        Double previousRating = newFeedback.getRating();
+        Long previousCourseId = newFeedback.getFeedbackCourse().getId();
 
         // Update only non-null fields from the request DTO to the existing feedback entity
         if (!(oldFeedback.getComment() == null))
@@ -135,18 +193,31 @@ public class FeedbackServiceImpl implements FeedbackService {
         if (!(oldFeedback.getFeedbackStudent() == null))
             newFeedback.setFeedbackStudent(oldFeedback.getFeedbackStudent());
 
-        return feedbackMapper.entityToDto(save(newFeedback));
+        Feedback feedback = save(newFeedback);
+        Long courseId = feedback.getFeedbackCourse().getId();
+        if (!courseId.equals(previousCourseId)) {
+            courseRepository.removeRating(previousCourseId, previousRating);
+            courseRepository.addRating(courseId, feedback.getRating());
+            tableVersions.bump(TableVersions.Table.COURSE);
+        } else if (!feedback.getRating().equals(previousRating)) {
+            courseRepository.replaceRating(courseId, previousRating, feedback.getRating());
+            tableVersions.bump(TableVersions.Table.COURSE);
+        }
+        return feedbackMapper.entityToDto(feedback);
     }
 
     /**
-     * Deletes feedback by ID.
+     * Deletes feedback by ID and removes its rating from the course rating aggregates.
      *
      * @param id the feedback ID.
      */
     @Override
+    @Transactional
     public void deleteFeedback(Long id) {
         Feedback feedback = getFeedbackById(id);
         feedbackRepository.delete(feedback);
+        courseRepository.removeRating(feedback.getFeedbackCourse().getId(), feedback.getRating());
+        tableVersions.bump(TableVersions.Table.COURSE);
     }
 
     /**
@@ -172,4 +243,16 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .sorted(Comparator.comparing(FeedbackDto::getFeedbackDate))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Exports all feedbacks as newline-delimited JSON, streaming them from a database cursor.
+     *
+     * @param output the output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportFeedbacks(OutputStream output) throws IOException {
+        ndjsonExporter.write(feedbackRepository.streamAllDtos(), Function.identity(), output);
+    }
 }
@@ -1,16 +1,31 @@
 package org.example.learning_platform.service.impl;
 
+import jakarta.annotation.PostConstruct;
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.InstructorDto;
 import org.example.learning_platform.entity.Instructor;
 import org.example.learning_platform.repository.InstructorRepository;
 import org.example.learning_platform.service.InstructorService;
+import org.example.learning_platform.utils.cache.TableVersions;
+import org.example.learning_platform.utils.bloom.EmailFilter;
+import org.example.learning_platform.utils.catalog.InstructorChangedEvent;
 import org.example.learning_platform.utils.exception.AlreadyExistException;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.example.learning_platform.utils.mapper.InstructorMapper;
+import org.example.learning_platform.utils.pagination.CursorPagination;
+import org.example.learning_platform.utils.search.NameTrie;
+import org.example.learning_platform.utils.export.NdjsonExporter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -20,16 +35,46 @@ import java.util.stream.Collectors;
 public class InstructorServiceImpl implements InstructorService {
     private final InstructorRepository instructorRepository;
     private final InstructorMapper instructorMapper;
+    private final NdjsonExporter ndjsonExporter;
+    private final TableVersions tableVersions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NameTrie nameTrie = new NameTrie();
+    private final EmailFilter emailFilter;
 
     /**
      * Constructor for InstructorServiceImpl.
      *
      * @param instructorRepository the repository for accessing instructor data.
      * @param instructorMapper     the mapper for converting between Instructor entities and DTOs.
+     * @param ndjsonExporter       the writer used to export instructors as newline-delimited JSON.
+     * @param tableVersions        the version counters behind the catalog ETags.
+     * @param eventPublisher       the publisher of instructor change events.
      */
-    public InstructorServiceImpl(InstructorRepository instructorRepository, InstructorMapper instructorMapper) {
+    public InstructorServiceImpl(InstructorRepository instructorRepository, InstructorMapper instructorMapper, NdjsonExporter ndjsonExporter,
+                                 TableVersions tableVersions, ApplicationEventPublisher eventPublisher) {
         this.instructorRepository = instructorRepository;
         this.instructorMapper = instructorMapper;
+        this.ndjsonExporter = ndjsonExporter;
+        this.tableVersions = tableVersions;
+        this.eventPublisher = eventPublisher;
+        this.emailFilter = new EmailFilter(instructorRepository::findAllEmails);
+    }
+
+    /**
+     * Loads all instructor names into the autocomplete trie at startup.
+     */
+    @PostConstruct
+    void loadNameTrie() {
+        instructorRepository.findAllNames().forEach(nameTrie::add);
+    }
+
+    /**
+     * Builds the Bloom filter of instructor emails from the database.
+     * Called at startup and again whenever the filter has outgrown its capacity.
+     */
+    @PostConstruct
+    void loadEmailFilter() {
+        emailFilter.load();
     }
 
     /**
@@ -49,25 +94,30 @@ public class InstructorServiceImpl implements InstructorService {
     /**
      * Checks if an instructor with the given email exists.
      *
-     * @param name the instructor email.
+     * @param email the instructor email.
      * @return false (no return value used).
      * @throws AlreadyExistException if the instructor email already exists.
      */
-    private boolean isEmailExist(String name) {
-        if (instructorRepository.isEmailExist(name)) {
+    private boolean isEmailExist(String email) {
+        // A Bloom filter miss proves the email is new, so the COUNT query only runs on possible hits.
+        if (emailFilter.mightContain(email) && instructorRepository.isEmailExist(email)) {
             throw new AlreadyExistException("Instructor", "email");
         }
         return false;
     }
 
     /**
-     * Saves an instructor entity to the database.
+     * Saves an instructor entity to the database, notifies the course search index of the change and bumps the
+     * instructor table version, since course responses carry instructor names.
      *
      * @param instructor the instructor entity to save.
      * @return the saved instructor entity.
      */
     private Instructor save(Instructor instructor) {
-        return instructorRepository.save(instructor);
+        Instructor saved = instructorRepository.save(instructor);
+        eventPublisher.publishEvent(new InstructorChangedEvent(saved));
+        tableVersions.bump(TableVersions.Table.INSTRUCTOR);
+        return saved;
     }
 
     /**
@@ -96,6 +146,21 @@ public class InstructorServiceImpl implements InstructorService {
                 .orElseThrow(() -> new ObjectNotFoundException("Instructor"));
     }
 
+    /**
+     * Retrieves instructors by a collection of IDs using a single query.
+     *
+     * @param ids the IDs of the instructors.
+     * @return a map from instructor ID to instructor entity; missing IDs are absent from the map.
+     */
+    @Override
+    public Map<Long, Instructor> getInstructorsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return instructorRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Instructor::getId, Function.identity()));
+    }
+
     /**
      * Retrieves a list of instructor DTOs whose names contain the given string.
      *
@@ -117,6 +182,20 @@ public class InstructorServiceImpl implements InstructorService {
         return instructorMapper.entityToDtoList(instructorRepository.findAll());
     }
 
+    /**
+     * Retrieves one page of instructors ordered by ID.
+     *
+     * @param after the cursor of the previous page, or null for the first page.
+     * @param limit the page size, or null for the default.
+     * @return a page of instructor DTOs.
+     */
+    @Override
+    public CursorPage<InstructorDto> getInstructorsPage(String after, Integer limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        return CursorPagination.toPage(instructorRepository.findPageAfterId(CursorPagination.decodeId(after), CursorPagination.seek(pageSize)),
+                pageSize, instructorMapper::entityToDtoList, Instructor::getId);
+    }
+
     /**
      * Creates a new instructor.
      *
@@ -126,8 +205,11 @@ public class InstructorServiceImpl implements InstructorService {
      */
     @Override
     public InstructorDto createInstructor(InstructorDto instructorDto) {
-        if (!isEmailExist(instructorDto.getName())) {
-            return instructorMapper.entityToDto(save(instructorMapper.dtoToEntity(instructorDto)));
+        if (!isEmailExist(instructorDto.getEmail())) {
+            Instructor instructor = save(instructorMapper.dtoToEntity(instructorDto));
+            nameTrie.add(instructor.getName());
+            emailFilter.remember(instructor.getEmail());
+            return instructorMapper.entityToDto(instructor);
         }
         return null;
     }
@@ -144,6 +226,7 @@ public class InstructorServiceImpl implements InstructorService {
     public InstructorDto updateInstructor(InstructorDto instructorDto) {
         Instructor oldInstructor = instructorMapper.dtoToEntity(instructorDto);
         Instructor newInstructor = getInstructorById(instructorDto.getId());
+        String previousName = newInstructor.getName();
 
         // Check if the email has been changed to avoid conflicts with existing emails.
         if (!newInstructor.getEmail().equals(oldInstructor.getEmail())) {
@@ -161,7 +244,10 @@ public class InstructorServiceImpl implements InstructorService {
             newInstructor.setBio(oldInstructor.getBio());
         }
 
-        return instructorMapper.entityToDto(save(newInstructor));
+        Instructor instructor = save(newInstructor);
+        nameTrie.replace(previousName, instructor.getName());
+        emailFilter.remember(instructor.getEmail());
+        return instructorMapper.entityToDto(instructor);
     }
 
     /**
@@ -175,4 +261,43 @@ public class InstructorServiceImpl implements InstructorService {
                 .sorted(Comparator.comparing(InstructorDto::getName)) // Sort by course name
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Retrieves one page of instructors sorted by name.
+     *
+     * @param after the cursor of the previous page, or null for the first page.
+     * @param limit the page size, or null for the default.
+     * @return a page of instructor DTOs sorted by name.
+     */
+    @Override
+    public CursorPage<InstructorDto> sortByName(String after, Integer limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        CursorPagination.NameKey key = CursorPagination.decodeNameKey(after);
+        return CursorPagination.toPage(instructorRepository.findPageAfterName(key.name(), key.id(), CursorPagination.seek(pageSize)),
+                pageSize, instructorMapper::entityToDtoList, instructor -> CursorPagination.nameKey(instructor.getName(), instructor.getId()));
+    }
+
+    /**
+     * Exports all instructors as newline-delimited JSON, streaming them from a database cursor.
+     *
+     * @param output the output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportInstructors(OutputStream output) throws IOException {
+        ndjsonExporter.write(instructorRepository.streamAll(), instructorMapper::entityToDto, output);
+    }
+
+    /**
+     * Completes a prefix to instructor names from the in-memory trie, without querying the database.
+     *
+     * @param prefix the typed prefix.
+     * @param limit  the maximum number of names, or null for the default.
+     * @return matching instructor names in alphabetical order.
+     */
+    @Override
+    public List<String> autocomplete(String prefix, Integer limit) {
+        return nameTrie.complete(prefix, CursorPagination.clampLimit(limit));
+    }
 }
@@ -1,16 +1,29 @@
 package org.example.learning_platform.service.impl;
 
+import jakarta.annotation.PostConstruct;
+import org.example.learning_platform.dto.CursorPage;
 import org.example.learning_platform.dto.StudentDto;
 import org.example.learning_platform.entity.Student;
 import org.example.learning_platform.repository.StudentRepository;
 import org.example.learning_platform.service.StudentService;
+import org.example.learning_platform.utils.bloom.EmailFilter;
+import org.example.learning_platform.utils.cache.StudentIdCache;
 import org.example.learning_platform.utils.exception.AlreadyExistException;
 import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.example.learning_platform.utils.mapper.StudentMapper;
+import org.example.learning_platform.utils.pagination.CursorPagination;
+import org.example.learning_platform.utils.search.NameTrie;
+import org.example.learning_platform.utils.export.NdjsonExporter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -20,16 +33,43 @@ import java.util.stream.Collectors;
 public class StudentServiceImpl implements StudentService {
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
+    private final NdjsonExporter ndjsonExporter;
+    private final StudentIdCache studentIdCache;
+    private final NameTrie nameTrie = new NameTrie();
+    private final EmailFilter emailFilter;
 
     /**
      * Constructor for StudentServiceImpl.
      *
      * @param studentRepository the repository for accessing student data.
      * @param studentMapper     the mapper for converting between Student entities and DTOs.
+     * @param ndjsonExporter    the writer used to export students as newline-delimited JSON.
+     * @param studentIdCache    the cache resolving student names to IDs.
      */
-    public StudentServiceImpl(StudentRepository studentRepository, StudentMapper studentMapper) {
+    public StudentServiceImpl(StudentRepository studentRepository, StudentMapper studentMapper,
+                              NdjsonExporter ndjsonExporter, StudentIdCache studentIdCache) {
         this.studentRepository = studentRepository;
         this.studentMapper = studentMapper;
+        this.ndjsonExporter = ndjsonExporter;
+        this.studentIdCache = studentIdCache;
+        this.emailFilter = new EmailFilter(studentRepository::findAllEmails);
+    }
+
+    /**
+     * Loads all student names into the autocomplete trie at startup.
+     */
+    @PostConstruct
+    void loadNameTrie() {
+        studentRepository.findAllNames().forEach(nameTrie::add);
+    }
+
+    /**
+     * Builds the Bloom filter of student emails from the database.
+     * Called at startup and again whenever the filter has outgrown its capacity.
+     */
+    @PostConstruct
+    void loadEmailFilter() {
+        emailFilter.load();
     }
 
     /**
@@ -50,7 +90,8 @@ public class StudentServiceImpl implements StudentService {
      * @throws AlreadyExistException if the student email already exists.
      */
     private Boolean isEmailExist(String email) {
-        if (studentRepository.isEmailExist(email))
+        // A Bloom filter miss proves the email is new, so the COUNT query only runs on possible hits.
+        if (emailFilter.mightContain(email) && studentRepository.isEmailExist(email))
             throw new AlreadyExistException("Student", "email");
         return false;
     }
@@ -91,6 +132,46 @@ public class StudentServiceImpl implements StudentService {
                 .orElseThrow(() -> new ObjectNotFoundException("Student"));
     }
 
+    /**
+     * Retrieves a student ID by name, querying only the ID on a cache miss.
+     *
+     * @param name the name of the student.
+     * @return the student ID.
+     * @throws ObjectNotFoundException if the student with the given name does not exist.
+     */
+    @Override
+    public Long getStudentIdByName(String name) {
+        return studentIdCache.get(name, studentRepository::findIdByName)
+                .orElseThrow(() -> new ObjectNotFoundException("Student"));
+    }
+
+    /**
+     * Retrieves a reference to a student by name without loading the student.
+     *
+     * @param name the name of the student.
+     * @return an uninitialized reference to the student.
+     * @throws ObjectNotFoundException if the student with the given name does not exist.
+     */
+    @Override
+    public Student getStudentReferenceByName(String name) {
+        return studentRepository.getReferenceById(getStudentIdByName(name));
+    }
+
+    /**
+     * Retrieves students by a collection of names using a single query.
+     *
+     * @param names the exact names of the students.
+     * @return a map from student name to student entity; unknown names are absent from the map.
+     */
+    @Override
+    public Map<String, Student> getStudentsByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        return studentRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(Student::getName, Function.identity(), (first, second) -> first));
+    }
+
     /**
      * Retrieves students by name.
      *
@@ -123,6 +204,20 @@ public class StudentServiceImpl implements StudentService {
         return studentMapper.entityToDtoList(studentRepository.findAll());
     }
 
+    /**
+     * Retrieves one page of students ordered by ID.
+     *
+     * @param after the cursor of the previous page, or null for the first page.
+     * @param limit the page size, or null for the default.
+     * @return a page of student DTOs.
+     */
+    @Override
+    public CursorPage<StudentDto> getStudentsPage(String after, Integer limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        return CursorPagination.toPage(studentRepository.findPageAfterId(CursorPagination.decodeId(after), CursorPagination.seek(pageSize)),
+                pageSize, studentMapper::entityToDtoList, Student::getId);
+    }
+
     /**
      * Creates a new student.
      *
@@ -131,8 +226,12 @@ public class StudentServiceImpl implements StudentService {
      */
     @Override
     public StudentDto createStudent(StudentDto studentDto) {
-        if (!isEmailExist(studentDto.getEmail())) // Check if the email already exists
-            return studentMapper.entityToDto(save(studentMapper.dtoToEntity(studentDto)));
+        if (!isEmailExist(studentDto.getEmail())) { // Check if the email already exists
+            Student student = save(studentMapper.dtoToEntity(studentDto));
+            nameTrie.add(student.getName());
+            emailFilter.remember(student.getEmail());
+            return studentMapper.entityToDto(student);
+        }
         return null;
     }
 
@@ -147,6 +246,7 @@ public class StudentServiceImpl implements StudentService {
         isIdExist(studentDto.getId()); // Ensure the student ID exists
         Student oldStudent = studentMapper.dtoToEntity(studentDto);
         Student newStudent = getStudentById(studentDto.getId());
+        String previousName = newStudent.getName();
 
         // Update only non-null fields from the request DTO to the existing student entity
         if (!newStudent.getEmail().equals(oldStudent.getEmail()))
@@ -159,7 +259,10 @@ public class StudentServiceImpl implements StudentService {
         if (oldStudent.getDateOfBirth() != null)
             newStudent.setDateOfBirth(oldStudent.getDateOfBirth());
 
-        return studentMapper.entityToDto(save(newStudent));
+        Student student = save(newStudent);
+        nameTrie.replace(previousName, student.getName());
+        emailFilter.remember(student.getEmail());
+        return studentMapper.entityToDto(student);
     }
 
     /**
@@ -173,4 +276,43 @@ public class StudentServiceImpl implements StudentService {
                 .sorted(Comparator.comparing(StudentDto::getName))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Retrieves one page of students sorted by name.
+     *
+     * @param after the cursor of the previous page, or null for the first page.
+     * @param limit the page size, or null for the default.
+     * @return a page of student DTOs sorted by name.
+     */
+    @Override
+    public CursorPage<StudentDto> sortByName(String after, Integer limit) {
+        int pageSize = CursorPagination.clampLimit(limit);
+        CursorPagination.NameKey key = CursorPagination.decodeNameKey(after);
+        return CursorPagination.toPage(studentRepository.findPageAfterName(key.name(), key.id(), CursorPagination.seek(pageSize)),
+                pageSize, studentMapper::entityToDtoList, student -> CursorPagination.nameKey(student.getName(), student.getId()));
+    }
+
+    /**
+     * Exports all students as newline-delimited JSON, streaming them from a database cursor.
+     *
+     * @param output the output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportStudents(OutputStream output) throws IOException {
+        ndjsonExporter.write(studentRepository.streamAll(), studentMapper::entityToDto, output);
+    }
+
+    /**
+     * Completes a prefix to student names from the in-memory trie, without querying the database.
+     *
+     * @param prefix the typed prefix.
+     * @param limit  the maximum number of names, or null for the default.
+     * @return matching student names in alphabetical order.
+     */
+    @Override
+    public List<String> autocomplete(String prefix, Integer limit) {
+        return nameTrie.complete(prefix, CursorPagination.clampLimit(limit));
+    }
 }
@@ -0,0 +1,128 @@
+package org.example.learning_platform.utils.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * `mightContain` never returns `false` for a value that was added, and returns `true` for a value that was
+ * not added with roughly the configured false positive rate, so a miss can safely skip a database lookup.
+ * Values cannot be removed; removed or renamed values only add false positives.
+ * Once more values are added than the filter was sized for, `isSaturated` reports it so the owner can rebuild.
+ */
+public class BloomFilter {
+    /**
+     * The smallest number of values a filter is sized for, so a nearly empty table still gets a useful filter.
+     */
+    public static final int MIN_CAPACITY = 10_000;
+
+    /**
+     * The target false positive rate of filters built with `of`.
+     */
+    public static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param capacity          The number of values the filter is sized for.
+     * @param falsePositiveRate The target false positive rate at capacity, between 0 and 1.
+     */
+    public BloomFilter(int capacity, double falsePositiveRate) {
+        this.capacity = Math.max(capacity, 1);
+        long bits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray((int) ((bits + 63) / 64));
+        this.bitCount = words.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * Math.log(2)));
+    }
+
+    /**
+     * Creates a filter holding the given values, sized for twice their number so it has room to grow.
+     *
+     * @param values The values to add.
+     * @return A filter containing all values.
+     */
+    public static BloomFilter of(Collection<String> values) {
+        BloomFilter filter = new BloomFilter(Math.max(values.size() * 2, MIN_CAPACITY), FALSE_POSITIVE_RATE);
+        values.forEach(filter::put);
+        return filter;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value The value to add; `null` is ignored.
+     */
+    public void put(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash1 = hash(value);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            long mask = 1L << bit;
+            words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+        size.incrementAndGet();
+    }
+
+    /**
+     * Tests whether a value may have been added.
+     *
+     * @param value The value to test.
+     * @return `false` if the value was definitely never added, `true` if it may have been.
+     */
+    public boolean mightContain(String value) {
+        if (value == null) {
+            return false;
+        }
+        long hash1 = hash(value);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether more values were added than the filter was sized for,
+     * after which its false positive rate climbs above the target.
+     *
+     * @return `true` if the filter should be rebuilt with a larger capacity.
+     */
+    public boolean isSaturated() {
+        return size.get() > capacity;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the UTF-8 bytes of a value.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * SplitMix64 finalizer, spreading the bits of a hash so derived hashes are independent enough for double hashing.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.learning_platform.utils.bloom;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Bloom filter of the emails stored in one table, used to skip the `COUNT` query of an email uniqueness check
+ * when the email is certainly new. Emails are folded to lower case, matching the case-insensitive check.
+ * Adding an email and rebuilding the filter once it is saturated are serialized, so an email recorded while the
+ * filter is being replaced always ends up in the new filter. Reads are not locked.
+ * The filter only short-cuts the check; the database `UNIQUE` constraint on the column is the source of truth.
+ */
+public class EmailFilter {
+    private final Supplier<List<String>> emailLoader;
+    private volatile BloomFilter filter = BloomFilter.of(List.of());
+
+    /**
+     * Constructor for `EmailFilter`.
+     *
+     * @param emailLoader Loads all emails currently stored in the table.
+     */
+    public EmailFilter(Supplier<List<String>> emailLoader) {
+        this.emailLoader = emailLoader;
+    }
+
+    /**
+     * Rebuilds the filter from the database.
+     * Called at startup and again whenever the filter has outgrown its capacity.
+     */
+    public synchronized void load() {
+        filter = BloomFilter.of(emailLoader.get().stream().map(EmailFilter::fold).toList());
+    }
+
+    /**
+     * Checks whether an email might already be stored.
+     *
+     * @param email The email.
+     * @return `false` if the email is certainly not stored, `true` if it might be.
+     */
+    public boolean mightContain(String email) {
+        return filter.mightContain(fold(email));
+    }
+
+    /**
+     * Records a saved email, rebuilding the filter first if it is saturated.
+     *
+     * @param email The email of a saved row.
+     */
+    public synchronized void remember(String email) {
+        if (filter.isSaturated()) {
+            load();
+        }
+        filter.put(fold(email));
+    }
+
+    /**
+     * Folds an email to the case-insensitive form compared by the uniqueness checks.
+     *
+     * @param email The email.
+     * @return The lower-cased email, or `null`.
+     */
+    public static String fold(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.learning_platform.utils.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache from student name to student ID used when wiring enrollments and feedbacks,
+ * so that writes referencing a student by name skip the `StudentRepository.findIdByName` query.
+ * Unknown names are not cached. Entries are dropped by `StudentIdCacheInvalidationListener`
+ * whenever a student is renamed or deleted.
+ */
+@Component
+public class StudentIdCache {
+
+    private final Cache<String, Long> ids;
+    private final AtomicLong generation = new AtomicLong();
+
+    public StudentIdCache(@Value("${student.id-cache.max-size:10000}") int maxSize) {
+        this.ids = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * Returns the cached ID for the name, loading and caching it on a miss.
+     */
+    public Optional<Long> get(String name, Function<String, Optional<Long>> loader) {
+        Long id = ids.getIfPresent(name);
+        if (id != null) {
+            return Optional.of(id);
+        }
+
+        long loadedAt = generation.get();
+        Optional<Long> loaded = loader.apply(name);
+        // Do not cache an ID loaded while an invalidation was in progress, the name may already be stale.
+        if (loaded.isPresent() && generation.get() == loadedAt) {
+            ids.put(name, loaded.get());
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops every name cached for the given student.
+     */
+    public void invalidate(Long studentId) {
+        generation.incrementAndGet();
+        ids.asMap().values().removeIf(studentId::equals);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        ids.invalidateAll();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.learning_platform.utils.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.learning_platform.entity.Student;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener on `Student` that evicts the student's cached name-to-ID mapping whenever
+ * the student row is updated or deleted. The mapping is evicted again after commit, so a lookup
+ * that read the old name before the commit cannot leave it behind.
+ */
+@Component
+public class StudentIdCacheInvalidationListener {
+
+    private final StudentIdCache studentIdCache;
+
+    public StudentIdCacheInvalidationListener(StudentIdCache studentIdCache) {
+        this.studentIdCache = studentIdCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onStudentChanged(Student student) {
+        Runnable invalidate = student.getId() == null
+                ? studentIdCache::invalidateAll
+                : () -> studentIdCache.invalidate(student.getId());
+        invalidate.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.learning_platform.utils.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version counters of the catalog tables, used as strong ETags for the catalog list endpoints.
+ * Services bump a table's version after every write to it, once the write has committed, and controllers
+ * read the version before loading any data. A client holding the current ETag can therefore be answered with
+ * `304 Not Modified` without a query, while a response built from data older than a write always carries
+ * an older version.
+ * Counters live in this JVM only and start again on restart, so every ETag carries a random epoch chosen at
+ * startup. Writes that bypass the services, such as manual SQL or the dataset generator, are not seen until the
+ * next restart.
+ */
+@Component
+public class TableVersions {
+
+    /**
+     * The tables whose contents appear in catalog responses.
+     */
+    public enum Table { COURSE, INSTRUCTOR, CATEGORY }
+
+    private final Map<Table, AtomicLong> versions = new EnumMap<>(Table.class);
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    public TableVersions() {
+        for (Table table : Table.values()) {
+            versions.put(table, new AtomicLong());
+        }
+    }
+
+    /**
+     * Records a write to the given table.
+     * Inside a transaction the version is bumped after commit, so it never advances before the data is visible.
+     *
+     * @param table The table that was written.
+     */
+    public void bump(Table table) {
+        AtomicLong version = versions.get(table);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Builds the strong ETag of a response built from the given tables.
+     *
+     * @param tables The tables the response is built from.
+     * @return The quoted entity tag.
+     */
+    public String etag(Table... tables) {
+        StringBuilder etag = new StringBuilder("\"").append(epoch);
+        for (Table table : tables) {
+            etag.append('-').append(versions.get(table).get());
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Checks an `If-None-Match` header against the current ETag, using the weak comparison RFC 9110 requires
+     * for this header.
+     *
+     * @param ifNoneMatch The header value, or `null` if the request has none.
+     * @param etag        The current ETag.
+     * @return `true` if the client's copy is current and `304 Not Modified` may be returned.
+     */
+    public static boolean notModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
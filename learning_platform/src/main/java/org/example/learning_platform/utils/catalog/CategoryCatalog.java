@@ -0,0 +1,150 @@
+package org.example.learning_platform.utils.catalog;
+
+import jakarta.annotation.PostConstruct;
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.repository.CategoryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory, read-optimized copy of the category table.
+ * Categories are few and rarely change, so every read is served from an immutable snapshot indexed
+ * by ID and by case-folded name. A change replaces the whole snapshot (copy-on-write), so readers never
+ * lock and never see a partially applied update.
+ * The snapshot is loaded at startup and refreshed from `CategoryChangedEvent`s after their transactions commit.
+ * Catalog entries are detached copies and must not be modified by callers.
+ */
+@Component
+public class CategoryCatalog {
+
+    /**
+     * An immutable view of all categories.
+     *
+     * @param byId   Categories keyed by ID.
+     * @param byName Categories keyed by lower-cased name.
+     */
+    private record Snapshot(Map<Long, Category> byId, Map<String, Category> byName) {
+        static Snapshot of(Collection<Category> categories) {
+            Map<Long, Category> byId = new HashMap<>();
+            Map<String, Category> byName = new HashMap<>();
+            for (Category category : categories) {
+                byId.put(category.getId(), category);
+                if (category.getName() != null) {
+                    byName.put(fold(category.getName()), category);
+                }
+            }
+            return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byName));
+        }
+    }
+
+    private final CategoryRepository categoryRepository;
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    /**
+     * Constructor for `CategoryCatalog`.
+     *
+     * @param categoryRepository The repository the catalog is loaded from.
+     */
+    public CategoryCatalog(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * Loads all categories from the database, replacing the current snapshot.
+     */
+    @PostConstruct
+    public void reload() {
+        snapshot = Snapshot.of(categoryRepository.findAll().stream().map(CategoryCatalog::copy).toList());
+    }
+
+    /**
+     * Applies a created or updated category to the catalog once its transaction has committed.
+     *
+     * @param event The event carrying the saved category.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        put(event.category());
+    }
+
+    /**
+     * Adds or replaces a category in the catalog.
+     *
+     * @param category The saved state of the category.
+     */
+    public synchronized void put(Category category) {
+        Map<Long, Category> byId = new HashMap<>(snapshot.byId());
+        byId.put(category.getId(), copy(category));
+        snapshot = Snapshot.of(byId.values());
+    }
+
+    /**
+     * Finds a category by ID.
+     *
+     * @param id The ID of the category.
+     * @return An `Optional` containing the category, or empty if there is none.
+     */
+    public Optional<Category> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot.byId().get(id));
+    }
+
+    /**
+     * Finds a category by name, ignoring case like `CategoryRepository.findByName`.
+     *
+     * @param name The name of the category.
+     * @return An `Optional` containing the category, or empty if there is none.
+     */
+    public Optional<Category> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(snapshot.byName().get(fold(name)));
+    }
+
+    /**
+     * Finds all categories with the given IDs.
+     *
+     * @param ids The IDs of the categories.
+     * @return A map from category ID to category; unknown IDs are absent from the map.
+     */
+    public Map<Long, Category> findByIds(Collection<Long> ids) {
+        Map<Long, Category> byId = snapshot.byId();
+        Map<Long, Category> found = new HashMap<>();
+        for (Long id : ids) {
+            Category category = byId.get(id);
+            if (category != null) {
+                found.put(id, category);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns all categories in ascending ID order.
+     *
+     * @return A list of all categories.
+     */
+    public List<Category> findAll() {
+        List<Category> categories = new ArrayList<>(snapshot.byId().values());
+        categories.sort(Comparator.comparing(Category::getId));
+        return categories;
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static Category copy(Category category) {
+        return new Category()
+                .setId(category.getId())
+                .setName(category.getName())
+                .setDescription(category.getDescription());
+    }
+}
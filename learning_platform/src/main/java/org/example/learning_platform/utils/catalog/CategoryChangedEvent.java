@@ -0,0 +1,12 @@
+package org.example.learning_platform.utils.catalog;
+
+import org.example.learning_platform.entity.Category;
+
+/**
+ * Application event published when a category is created or updated.
+ * The `CategoryCatalog` applies it after the surrounding transaction commits.
+ *
+ * @param category The saved state of the category.
+ */
+public record CategoryChangedEvent(Category category) {
+}
@@ -0,0 +1,12 @@
+package org.example.learning_platform.utils.catalog;
+
+import org.example.learning_platform.entity.Instructor;
+
+/**
+ * Application event published when an instructor is created or updated.
+ * The `CourseSearchIndex` applies it after the surrounding transaction commits.
+ *
+ * @param instructor The saved state of the instructor.
+ */
+public record InstructorChangedEvent(Instructor instructor) {
+}
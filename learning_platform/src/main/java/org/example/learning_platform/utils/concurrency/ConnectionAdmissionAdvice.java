@@ -0,0 +1,39 @@
+package org.example.learning_platform.utils.concurrency;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Turns the response of a request that `ConnectionAdmissionLimiter` refused a connection into
+ * `503 Service Unavailable` when the controller caught the failure like any other.
+ * The controller's usual error body is kept and only the status is changed, right before that body is written;
+ * failures that escape the controller are answered by `ConnectionAdmissionFilter` instead.
+ */
+@ControllerAdvice
+public class ConnectionAdmissionAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(ConnectionAdmissionLimiter.REJECTED_ATTRIBUTE) != null) {
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, ConnectionAdmissionFilter.RETRY_AFTER_SECONDS);
+        }
+        return body;
+    }
+}
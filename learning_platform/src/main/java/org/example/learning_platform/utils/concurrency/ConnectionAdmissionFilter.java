@@ -0,0 +1,42 @@
+package org.example.learning_platform.utils.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Answers a request that `ConnectionAdmissionLimiter` refused a connection with `503 Service Unavailable` and a
+ * `Retry-After` header, so clients back off instead of retrying at once.
+ * This covers failures that escape the controllers and those raised before them, such as the principal lookup in
+ * `JwtAuthenticationFilter`; the ones a controller catches are handled by `ConnectionAdmissionAdvice`.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConnectionAdmissionFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | RuntimeException exception) {
+            if (request.getAttribute(ConnectionAdmissionLimiter.REJECTED_ATTRIBUTE) == null || response.isCommitted()) {
+                throw exception;
+            }
+            response.resetBuffer();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+    }
+}
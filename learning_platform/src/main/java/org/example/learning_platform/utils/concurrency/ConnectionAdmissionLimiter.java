@@ -0,0 +1,148 @@
+package org.example.learning_platform.utils.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of JDBC connections handed out at once, right where the application acquires them.
+ * With virtual threads every request gets its own cheap thread, so thousands of them could otherwise pile up
+ * inside the connection pool until they time out. Threads asking for a connection beyond the limit wait in a fair
+ * queue for a permit, held until the connection is closed, and fail with `SQLTransientConnectionException` if none
+ * frees up in time; the request is then answered with `503 Service Unavailable` by `ConnectionAdmissionFilter`
+ * or `ConnectionAdmissionAdvice`.
+ * Requests that never touch the database, such as static pages, search, autocomplete and the category catalog,
+ * are not limited at all, and a streamed export only takes a permit for as long as it holds a connection.
+ * The limit defaults to the connection pool size.
+ * In-flight, queued and rejected counts are published as `jdbc.admission.*` meters.
+ */
+@Component
+public class ConnectionAdmissionLimiter implements BeanPostProcessor, MeterBinder {
+
+    /**
+     * The request attribute set when the request was refused a connection.
+     */
+    public static final String REJECTED_ATTRIBUTE = ConnectionAdmissionLimiter.class.getName() + ".REJECTED";
+
+    private final Semaphore permits;
+    private final int maxConnections;
+    private final long queueTimeoutMs;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConnectionAdmissionLimiter(@Value("${datasource.admission.max-connections:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConnections,
+                                      @Value("${datasource.admission.queue-timeout-ms:2000}") long queueTimeoutMs) {
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxConnections = maxConnections;
+        this.queueTimeoutMs = queueTimeoutMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionLimitedDataSource)) {
+            return new AdmissionLimitedDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private Connection admit(ConnectionSupplier supplier) throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes != null) {
+                attributes.setAttribute(REJECTED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            }
+            throw new SQLTransientConnectionException("No database connection freed up within " + queueTimeoutMs + " ms.");
+        }
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+        return permitReleasingProxy(connection);
+    }
+
+    /**
+     * Wraps a connection so that closing it, however many times, gives its permit back once.
+     */
+    private Connection permitReleasingProxy(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException exception) {
+                        throw exception.getCause();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private final class AdmissionLimitedDataSource extends DelegatingDataSource {
+
+        private AdmissionLimitedDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return admit(() -> obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return admit(() -> obtainTargetDataSource().getConnection(username, password));
+        }
+    }
+
+    public int inFlight() {
+        return maxConnections - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jdbc.admission.in.flight", this, ConnectionAdmissionLimiter::inFlight)
+                .description("Connections currently holding an admission permit")
+                .register(registry);
+        Gauge.builder("jdbc.admission.queued", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for an admission permit to get a connection")
+                .register(registry);
+        FunctionCounter.builder("jdbc.admission.rejected", rejected, LongAdder::sum)
+                .description("Connection requests rejected because no admission permit freed up in time")
+                .register(registry);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.learning_platform.utils.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Helper class for telling database constraint violations apart.
+ * Writes that wire associations as references leave existence and uniqueness checks to the database, so the
+ * services translate the resulting violations into the application's own exceptions instead of passing raw SQL
+ * messages to clients. Violations are classified by SQLSTATE, and foreign keys are told apart by constraint name,
+ * which follows PostgreSQL's `<table>_<column>_fkey` default.
+ */
+public final class IntegrityViolations {
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    /**
+     * H2 reports a missing referenced row with its own code instead of the standard `23503`.
+     */
+    private static final String H2_PARENT_MISSING = "23506";
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private IntegrityViolations() {}
+
+    /**
+     * Checks whether a violation is a missing row referenced through the given foreign key column.
+     *
+     * @param exception The violation.
+     * @param column    The foreign key column, e.g. `course_id`.
+     * @return `true` if the row referenced through `column` does not exist.
+     */
+    public static boolean isMissingReference(DataIntegrityViolationException exception, String column) {
+        ConstraintViolationException cause = constraintViolation(exception);
+        return cause != null && (FOREIGN_KEY_VIOLATION.equals(cause.getSQLState()) || H2_PARENT_MISSING.equals(cause.getSQLState()))
+                && cause.getConstraintName() != null
+                && cause.getConstraintName().toLowerCase(Locale.ROOT).contains(column.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Checks whether a violation is a duplicate value in a unique column or column set.
+     *
+     * @param exception The violation.
+     * @return `true` if a unique constraint was violated.
+     */
+    public static boolean isDuplicate(DataIntegrityViolationException exception) {
+        ConstraintViolationException cause = constraintViolation(exception);
+        return cause != null && UNIQUE_VIOLATION.equals(cause.getSQLState());
+    }
+
+    private static ConstraintViolationException constraintViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException constraintViolation) {
+                return constraintViolation;
+            }
+        }
+        return null;
+    }
+}
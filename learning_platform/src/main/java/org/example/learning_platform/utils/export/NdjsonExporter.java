@@ -0,0 +1,71 @@
+package org.example.learning_platform.utils.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes a stream of entities as newline-delimited JSON (NDJSON), one DTO per line.
+ * Rows are mapped and written as they are read from the database cursor, and the persistence context
+ * is cleared every `FETCH_SIZE` rows, so memory use does not grow with the size of the table.
+ * Callers must run inside a read-only transaction that keeps the cursor open while writing.
+ */
+@Component
+public class NdjsonExporter {
+    /**
+     * The JDBC fetch size of the export queries, also used as the persistence context clearing interval.
+     * It is a string so it can be used as a `@QueryHint` value.
+     */
+    public static final String FETCH_SIZE = "500";
+
+    private static final int CLEAR_INTERVAL = Integer.parseInt(FETCH_SIZE);
+
+    private final ObjectWriter objectWriter;
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for `NdjsonExporter`.
+     *
+     * @param objectMapper  The application's JSON mapper, so exported rows are serialized like API responses.
+     * @param entityManager The entity manager whose persistence context is cleared while exporting.
+     */
+    public NdjsonExporter(ObjectMapper objectMapper, EntityManager entityManager) {
+        this.objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Maps each entity of the stream to a DTO and writes it to the output as one JSON line.
+     *
+     * @param rows   The entities to export; the stream is closed when writing ends.
+     * @param mapper The function converting an entity to its DTO.
+     * @param output The output to write to; it is flushed but not closed.
+     * @param <E>    The entity type.
+     * @param <D>    The DTO type.
+     * @return The number of rows written.
+     * @throws IOException if writing to the output fails.
+     */
+    public <E, D> long write(Stream<E> rows, Function<E, D> mapper, OutputStream output) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(output);
+        long count = 0;
+        try (rows) {
+            for (E row : (Iterable<E>) rows::iterator) {
+                objectWriter.writeValue(buffered, mapper.apply(row));
+                buffered.write('\n');
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        buffered.flush();
+        return count;
+    }
+}
@@ -7,9 +7,13 @@ import org.example.learning_platform.entity.Course;
 import org.example.learning_platform.entity.Instructor;
 import org.example.learning_platform.service.CategoryService;
 import org.example.learning_platform.service.InstructorService;
+import org.example.learning_platform.utils.exception.ObjectNotFoundException;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -43,18 +47,39 @@ public class CourseMapper {
         if (course == null) {
             return null;
         }
-        CourseDtoResponse courseDtoResponse = new CourseDtoResponse();
-
         Instructor instructor = instructorService.getInstructorById(course.getInstructor().getId());
         Category category = categoryService.getCategoryById(course.getCategory().getId());
+        return entityToDto(course, instructor, category);
+    }
+
+    /**
+     * Converts a `Course` entity whose instructor and category were fetched with it to a `CourseDtoResponse`,
+     * without looking the associations up again.
+     *
+     * @param course The `Course` entity to be converted, with its associations initialized.
+     * @return The corresponding `CourseDtoResponse`.
+     */
+    public CourseDtoResponse fetchedEntityToDto(Course course) {
+        return entityToDto(course, course.getInstructor(), course.getCategory());
+    }
 
+    /**
+     * Converts a `Course` entity to a `CourseDtoResponse` using already resolved associations.
+     *
+     * @param course     The `Course` entity to be converted.
+     * @param instructor The instructor of the course.
+     * @param category   The category of the course.
+     * @return The corresponding `CourseDtoResponse`.
+     */
+    private CourseDtoResponse entityToDto(Course course, Instructor instructor, Category category) {
+        CourseDtoResponse courseDtoResponse = new CourseDtoResponse();
         courseDtoResponse.setId(course.getId());
         courseDtoResponse.setTitle(course.getTitle());
         courseDtoResponse.setDescription(course.getDescription());
         courseDtoResponse.setDuration(course.getDuration());
         courseDtoResponse.setPrice(course.getPrice());
-        courseDtoResponse.setInstructorName(instructor.getName());
-        courseDtoResponse.setCategoryName(category.getName());
+        courseDtoResponse.setInstructorName(instructor == null ? null : instructor.getName());
+        courseDtoResponse.setCategoryName(category == null ? null : category.getName());
         courseDtoResponse.setTotalEnrollments(course.getTotalEnrollments());
         courseDtoResponse.setAverageRating((float) (Math.round(course.getAverageRating() * 10) / 10.0));
         courseDtoResponse.setCreationDate(course.getCreationDate());
@@ -63,6 +88,8 @@ public class CourseMapper {
 
     /**
      * Converts a list of `Course` entities to a list of `CourseDtoResponse` objects.
+     * Instructor and category IDs of all courses are collected first and resolved with one `IN` query each,
+     * so the number of lookups does not grow with the number of courses.
      *
      * @param courses The list of `Course` entities to be converted.
      * @return A list of `CourseDtoResponse` objects.
@@ -71,7 +98,45 @@ public class CourseMapper {
         if (courses == null) {
             return null;
         }
-        return courses.stream().map(this::entityToDto).collect(Collectors.toList());
+        Set<Long> instructorIds = courses.stream()
+                .map(Course::getInstructor)
+                .filter(Objects::nonNull)
+                .map(Instructor::getId)
+                .collect(Collectors.toSet());
+        Set<Long> categoryIds = courses.stream()
+                .map(Course::getCategory)
+                .filter(Objects::nonNull)
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Instructor> instructors = instructorService.getInstructorsByIds(instructorIds);
+        Map<Long, Category> categories = categoryService.getCategoriesByIds(categoryIds);
+
+        return courses.stream()
+                .map(course -> entityToDto(course,
+                        resolve(instructors, course.getInstructor() == null ? null : course.getInstructor().getId(), "Instructor"),
+                        resolve(categories, course.getCategory() == null ? null : course.getCategory().getId(), "Category")))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Looks up a batch-loaded association by ID.
+     *
+     * @param loaded     The associations loaded for the current batch, keyed by ID.
+     * @param id         The ID to look up, or `null` if the course has no such association.
+     * @param objectName The name of the association used in the not-found message.
+     * @return The resolved association, or `null` if the ID is `null`.
+     * @throws ObjectNotFoundException if the ID was not found in the batch.
+     */
+    private static <T> T resolve(Map<Long, T> loaded, Long id, String objectName) {
+        if (id == null) {
+            return null;
+        }
+        T value = loaded.get(id);
+        if (value == null) {
+            throw new ObjectNotFoundException(objectName);
+        }
+        return value;
     }
 
     /**
@@ -12,7 +12,7 @@ import java.util.stream.Collectors;
 /**
  * Mapper class for converting between `Enrollment` entities and `EnrollmentDto` data transfer objects (DTOs).
  * This class provides methods to transform enrollment data from the entity layer to the DTO layer and vice versa.
- * It uses services to fetch related entities for Course and Student for detailed mappings.
+ * It uses services to resolve references to the related Course and Student entities.
  */
 @Component
 public class EnrollmentMapper {
@@ -22,8 +22,8 @@ public class EnrollmentMapper {
     /**
      * Constructor for `EnrollmentMapper`.
      *
-     * @param courseService  The service to fetch course details.
-     * @param studentService The service to fetch student details.
+     * @param courseService  The service to resolve course references.
+     * @param studentService The service to resolve student references.
      */
     public EnrollmentMapper(CourseService courseService, StudentService studentService) {
         this.courseService = courseService;
@@ -37,12 +37,24 @@ public class EnrollmentMapper {
      * @return The corresponding `EnrollmentDto`.
      */
     public EnrollmentDto entityToDto(Enrollment enrollment) {
+        return entityToDto(enrollment, enrollment.getEnrollmentStudent().getName());
+    }
+
+    /**
+     * Converts an `Enrollment` entity whose student is an uninitialized reference to an `EnrollmentDto`,
+     * taking the student name from the caller instead of loading the student.
+     *
+     * @param enrollment  The `Enrollment` entity to be converted.
+     * @param studentName The name of the enrolled student.
+     * @return The corresponding `EnrollmentDto`.
+     */
+    public EnrollmentDto entityToDto(Enrollment enrollment, String studentName) {
         EnrollmentDto enrollmentDto = new EnrollmentDto();
         enrollmentDto.setId(enrollment.getId());
         enrollmentDto.setEnrollmentDate(enrollment.getEnrollmentDate());
         enrollmentDto.setCompletionStatus(enrollment.getCompletionStatus());
         enrollmentDto.setCourseId(enrollment.getEnrollmentCourse().getId());
-        enrollmentDto.setStudentName(enrollment.getEnrollmentStudent().getName());
+        enrollmentDto.setStudentName(studentName);
         return enrollmentDto;
     }
 
@@ -67,8 +79,11 @@ public class EnrollmentMapper {
         enrollment.setId(enrollmentDto.getId());
         enrollment.setEnrollmentDate(enrollmentDto.getEnrollmentDate());
         enrollment.setCompletionStatus(enrollmentDto.getCompletionStatus());
-        enrollment.setEnrollmentCourse(courseService.getCourseById(enrollmentDto.getCourseId()));
-        enrollment.setEnrollmentStudent(studentService.getStudentEntityByName(enrollmentDto.getStudentName()));
+        // Associations are wired as references, so writing the enrollment does not load the course or the student.
+        if (enrollmentDto.getCourseId() != null)
+            enrollment.setEnrollmentCourse(courseService.getCourseReference(enrollmentDto.getCourseId()));
+        if (enrollmentDto.getStudentName() != null)
+            enrollment.setEnrollmentStudent(studentService.getStudentReferenceByName(enrollmentDto.getStudentName()));
         return enrollment;
     }
 }
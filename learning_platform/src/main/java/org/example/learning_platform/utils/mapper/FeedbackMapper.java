@@ -12,7 +12,7 @@ import java.util.stream.Collectors;
 /**
  * Mapper class for converting between `Feedback` entities and `FeedbackDto` data transfer objects (DTOs).
  * This class provides methods to transform feedback data from the entity layer to the DTO layer and vice versa.
- * It uses services to fetch related entities for Course and Student for detailed mappings.
+ * It uses services to resolve references to the related Course and Student entities.
  */
 @Component
 public class FeedbackMapper {
@@ -22,8 +22,8 @@ public class FeedbackMapper {
     /**
      * Constructor for `FeedbackMapper`.
      *
-     * @param courseService  The service to fetch course details.
-     * @param studentService The service to fetch student details.
+     * @param courseService  The service to resolve course references.
+     * @param studentService The service to resolve student references.
      */
     public FeedbackMapper(CourseService courseService, StudentService studentService) {
         this.courseService = courseService;
@@ -37,14 +37,26 @@ public class FeedbackMapper {
      * @return The corresponding `FeedbackDto`.
      */
     public FeedbackDto entityToDto(Feedback feedback) {
+        return entityToDto(feedback, feedback.getFeedbackStudent().getName());
+    }
+
+    /**
+     * Converts a `Feedback` entity whose student is an uninitialized reference to a `FeedbackDto`,
+     * taking the student name from the caller instead of loading the student.
+     *
+     * @param feedback    The `Feedback` entity to be converted.
+     * @param studentName The name of the student who gave the feedback.
+     * @return The corresponding `FeedbackDto`.
+     */
+    public FeedbackDto entityToDto(Feedback feedback, String studentName) {
         FeedbackDto feedbackDto = new FeedbackDto();
         feedbackDto.setId(feedback.getId());
         feedbackDto.setComment(feedback.getComment());
         feedbackDto.setFeedbackDate(feedback.getFeedbackDate());
         feedbackDto.setRating(feedback.getRating());
         feedbackDto.setCourseId(feedback.getFeedbackCourse().getId());
-        feedbackDto.setCourseName(courseService.getCourseById(feedback.getFeedbackCourse().getId()).getTitle());
-        feedbackDto.setStudentName(feedback.getFeedbackStudent().getName());
+        feedbackDto.setCourseName(feedback.getFeedbackCourse().getTitle());
+        feedbackDto.setStudentName(studentName);
         return feedbackDto;
     }
 
@@ -70,8 +82,11 @@ public class FeedbackMapper {
         feedback.setComment(feedbackDto.getComment());
         feedback.setFeedbackDate(feedbackDto.getFeedbackDate());
         feedback.setRating(feedbackDto.getRating());
-        feedback.setFeedbackCourse(courseService.getCourseById(feedbackDto.getCourseId()));
-        feedback.setFeedbackStudent(studentService.getStudentEntityByName(feedbackDto.getStudentName()));
+        // Associations are wired as references, so writing the feedback does not load the course or the student.
+        if (feedbackDto.getCourseId() != null)
+            feedback.setFeedbackCourse(courseService.getCourseReference(feedbackDto.getCourseId()));
+        if (feedbackDto.getStudentName() != null)
+            feedback.setFeedbackStudent(studentService.getStudentReferenceByName(feedbackDto.getStudentName()));
         return feedback;
     }
 }
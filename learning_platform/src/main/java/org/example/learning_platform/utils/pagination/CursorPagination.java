@@ -0,0 +1,157 @@
+package org.example.learning_platform.utils.pagination;
+
+import org.example.learning_platform.dto.CursorPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helper class for keyset (cursor) pagination.
+ * Cursors are the last sort key of a page encoded as URL-safe Base64, so clients treat them as opaque tokens.
+ * Repositories seek past the decoded key with an indexed `WHERE key > ?` and read one row more than requested
+ * to find out whether another page follows.
+ */
+public final class CursorPagination {
+    /**
+     * The page size used when the client does not specify a limit.
+     */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * The largest page size a client may request.
+     */
+    public static final int MAX_LIMIT = 500;
+
+    private CursorPagination() {}
+
+    /**
+     * Normalizes a requested page size into the range `1..MAX_LIMIT`.
+     *
+     * @param limit The requested page size, or `null` for the default.
+     * @return The page size to use.
+     */
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Builds the `Pageable` used by the seek queries. One extra row is requested to detect the next page.
+     *
+     * @param limit The page size.
+     * @return A `Pageable` for the first `limit + 1` rows after the cursor.
+     */
+    public static Pageable seek(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * Encodes a sort key into an opaque cursor.
+     *
+     * @param key The sort key of the last item on a page.
+     * @return The encoded cursor.
+     */
+    public static String encode(Object key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor carrying a string sort key.
+     *
+     * @param cursor The cursor received from the client, or `null` for the first page.
+     * @return The decoded sort key, or an empty string for the first page.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static String decodeString(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return "";
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    /**
+     * The decoded cursor of a page sorted by name, with the ID breaking ties between equal names.
+     *
+     * @param name The name of the last item on the previous page, or an empty string for the first page.
+     * @param id   The ID of the last item on the previous page, or `0` for the first page.
+     */
+    public record NameKey(String name, Long id) {}
+
+    /**
+     * Builds the sort key of a row of a page sorted by name, to be encoded as its cursor.
+     * The ID comes first because it cannot contain the separator, so names may contain anything.
+     *
+     * @param name The name of the row.
+     * @param id   The ID of the row.
+     * @return The sort key.
+     */
+    public static String nameKey(String name, Long id) {
+        return id + ":" + name;
+    }
+
+    /**
+     * Decodes a cursor carrying a (name, ID) sort key built by `nameKey`.
+     *
+     * @param cursor The cursor received from the client, or `null` for the first page.
+     * @return The decoded key, or an empty name and ID `0` for the first page.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static NameKey decodeNameKey(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new NameKey("", 0L);
+        }
+        String key = decodeString(cursor);
+        int separator = key.indexOf(':');
+        try {
+            return new NameKey(key.substring(separator + 1), Long.parseLong(key.substring(0, Math.max(separator, 0))));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    /**
+     * Decodes a cursor carrying an ID sort key.
+     *
+     * @param cursor The cursor received from the client, or `null` for the first page.
+     * @return The decoded ID, or `0` for the first page.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decodeString(cursor));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    /**
+     * Converts the rows returned by a seek query into a page.
+     *
+     * @param rows   The rows returned by the seek query, at most `limit + 1`.
+     * @param limit  The requested page size.
+     * @param mapper The function converting the page rows into DTOs.
+     * @param key    The function extracting the sort key of a row.
+     * @return The page with its next cursor, or a `null` cursor if no rows follow.
+     */
+    public static <E, T> CursorPage<T> toPage(List<E> rows, int limit,
+                                              Function<List<E>, List<T>> mapper, Function<E, ?> key) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encode(key.apply(pageRows.get(pageRows.size() - 1))) : null;
+        return new CursorPage<>(mapper.apply(pageRows), nextCursor);
+    }
+}
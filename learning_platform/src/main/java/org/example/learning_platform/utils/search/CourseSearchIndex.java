@@ -0,0 +1,301 @@
+package org.example.learning_platform.utils.search;
+
+import jakarta.annotation.PostConstruct;
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.repository.CourseRepository;
+import org.example.learning_platform.utils.catalog.CategoryChangedEvent;
+import org.example.learning_platform.utils.catalog.InstructorChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over course title, description, category name and instructor name.
+ * Text is split on non-alphanumeric characters and lower-cased. Each term maps to the courses containing it,
+ * weighted by the field it occurs in. The term dictionary is sorted, so a query token also matches every term
+ * it is a prefix of, at a reduced weight.
+ * A course must match every query token. Scores sum field weight times inverse document frequency per token,
+ * and the top `k` courses are kept in a bounded heap, so a search never touches the database.
+ * The index is built at startup and updated on course writes and on category and instructor renames.
+ */
+@Component
+public class CourseSearchIndex {
+    static final double TITLE_WEIGHT = 3.0;
+    static final double CATEGORY_WEIGHT = 2.0;
+    static final double INSTRUCTOR_WEIGHT = 2.0;
+    static final double DESCRIPTION_WEIGHT = 1.0;
+
+    /**
+     * The fraction of a term's score earned when the query token is only a prefix of the term.
+     */
+    static final double PREFIX_FACTOR = 0.5;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * A ranked search result.
+     *
+     * @param courseId The ID of the matching course.
+     * @param score    The relevance score; higher is more relevant.
+     */
+    public record Hit(Long courseId, double score) {}
+
+    /**
+     * The indexed text of one course and the weighted terms derived from it.
+     */
+    private record Document(Long courseId, String title, String description,
+                            Long categoryId, String categoryName, Long instructorId, String instructorName,
+                            Map<String, Double> terms) {}
+
+    private final ConcurrentSkipListMap<String, Map<Long, Double>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final CourseRepository courseRepository;
+
+    /**
+     * Constructor for `CourseSearchIndex`.
+     *
+     * @param courseRepository The repository the index is built from.
+     */
+    public CourseSearchIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Rebuilds the index from all courses in the database.
+     */
+    @PostConstruct
+    public void rebuild() {
+        List<Document> loaded = courseRepository.findAllWithAssociations().stream().map(CourseSearchIndex::document).toList();
+        synchronized (this) {
+            postings.clear();
+            documents.clear();
+            loaded.forEach(this::put);
+        }
+    }
+
+    /**
+     * Adds a course to the index, replacing its previous entry.
+     * Lazy associations are read before taking the index lock, so no database access happens while holding it.
+     *
+     * @param course The saved course; its instructor and category names are indexed with it.
+     */
+    public void index(Course course) {
+        Document document = document(course);
+        synchronized (this) {
+            put(document);
+        }
+    }
+
+    /**
+     * Removes a course from the index.
+     *
+     * @param courseId The ID of the course.
+     */
+    public synchronized void remove(Long courseId) {
+        Document previous = documents.remove(courseId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms().keySet()) {
+            Map<Long, Double> courses = postings.get(term);
+            if (courses != null) {
+                courses.remove(courseId);
+                if (courses.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-indexes the courses of a category after it has been renamed.
+     *
+     * @param event The event carrying the saved category.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        Category category = event.category();
+        for (Document document : new ArrayList<>(documents.values())) {
+            if (category.getId().equals(document.categoryId())) {
+                put(new Document(document.courseId(), document.title(), document.description(),
+                        document.categoryId(), category.getName(), document.instructorId(), document.instructorName(), null));
+            }
+        }
+    }
+
+    /**
+     * Re-indexes the courses of an instructor after they have been renamed.
+     *
+     * @param event The event carrying the saved instructor.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onInstructorChanged(InstructorChangedEvent event) {
+        Instructor instructor = event.instructor();
+        for (Document document : new ArrayList<>(documents.values())) {
+            if (instructor.getId().equals(document.instructorId())
+                    && !instructor.getName().equals(document.instructorName())) {
+                put(new Document(document.courseId(), document.title(), document.description(),
+                        document.categoryId(), document.categoryName(), instructor.getId(), instructor.getName(), null));
+            }
+        }
+    }
+
+    /**
+     * Finds the courses best matching a free-text query.
+     *
+     * @param query The search text.
+     * @param limit The maximum number of results.
+     * @return The top `limit` hits, most relevant first.
+     */
+    public List<Hit> search(String query, int limit) {
+        Set<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int documentCount = Math.max(documents.size(), 1);
+        Map<Long, Double> scores = null;
+        for (String token : tokens) {
+            Map<Long, Double> tokenScores = new HashMap<>();
+            Map<Long, Double> exact = postings.get(token);
+            if (exact != null) {
+                accumulate(tokenScores, exact, idf(documentCount, exact.size()));
+            }
+            for (Map<Long, Double> courses : postings.subMap(token, false, token + Character.MAX_VALUE, false).values()) {
+                accumulate(tokenScores, courses, idf(documentCount, courses.size()) * PREFIX_FACTOR);
+            }
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((courseId, score) -> score + tokenScores.get(courseId));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).thenComparing(Hit::courseId, Comparator.reverseOrder());
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, ranking);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.add(new Hit(entry.getKey(), entry.getValue()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(ranking.reversed());
+        return hits;
+    }
+
+    /**
+     * Finds the courses whose titles contain every word of the text, each word as a whole title word or the start
+     * of one. It replaces a `LIKE '%text%'` scan of the course titles and never touches the database.
+     *
+     * @param text The title text.
+     * @return The IDs of the matching courses, in ascending order.
+     */
+    public List<Long> findByTitle(String text) {
+        Set<String> tokens = tokenize(text);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> candidates = null;
+        for (String token : tokens) {
+            Set<Long> tokenCandidates = new HashSet<>();
+            for (Map<Long, Double> courses : postings.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                tokenCandidates.addAll(courses.keySet());
+            }
+            if (candidates == null) {
+                candidates = tokenCandidates;
+            } else {
+                candidates.retainAll(tokenCandidates);
+            }
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+        // The postings cover every field, so keep only the candidates matching through their titles.
+        return candidates.stream()
+                .filter(courseId -> titleMatches(documents.get(courseId), tokens))
+                .sorted()
+                .toList();
+    }
+
+    private static boolean titleMatches(Document document, Set<String> tokens) {
+        if (document == null) {
+            return false;
+        }
+        Set<String> titleTerms = tokenize(document.title());
+        return tokens.stream().allMatch(token -> titleTerms.stream().anyMatch(term -> term.startsWith(token)));
+    }
+
+    private static Document document(Course course) {
+        Instructor instructor = course.getInstructor();
+        Category category = course.getCategory();
+        return new Document(course.getId(), course.getTitle(), course.getDescription(),
+                category == null ? null : category.getId(),
+                category == null ? null : category.getName(),
+                instructor == null ? null : instructor.getId(),
+                instructor == null ? null : instructor.getName(),
+                null);
+    }
+
+    private void put(Document document) {
+        remove(document.courseId());
+        Map<String, Double> terms = new HashMap<>();
+        addField(terms, document.title(), TITLE_WEIGHT);
+        addField(terms, document.description(), DESCRIPTION_WEIGHT);
+        addField(terms, document.categoryName(), CATEGORY_WEIGHT);
+        addField(terms, document.instructorName(), INSTRUCTOR_WEIGHT);
+        documents.put(document.courseId(), new Document(document.courseId(), document.title(), document.description(),
+                document.categoryId(), document.categoryName(), document.instructorId(), document.instructorName(), terms));
+        terms.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(document.courseId(), weight));
+    }
+
+    /**
+     * Adds each course's weight for one term to the token scores, keeping the best term per course
+     * so a token matching several terms of the same course is not counted twice.
+     */
+    private static void accumulate(Map<Long, Double> tokenScores, Map<Long, Double> courses, double idf) {
+        courses.forEach((courseId, weight) -> tokenScores.merge(courseId, weight * idf, Math::max));
+    }
+
+    private static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1.0 + (double) documentCount / documentFrequency);
+    }
+
+    private static void addField(Map<String, Double> terms, String text, double weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Double::sum);
+        }
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
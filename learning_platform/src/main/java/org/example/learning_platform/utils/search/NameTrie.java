@@ -0,0 +1,215 @@
+package org.example.learning_platform.utils.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed (radix) trie of names for typeahead completion.
+ * Names are keyed by their lower-cased form; each edge holds a run of characters, so lookups cost the length
+ * of the prefix plus the size of the answer rather than the number of stored names.
+ * Completions come back in alphabetical order and the walk stops after `limit` names.
+ * The same name may be added several times (for example, two students called "Anna Lee"); it is completed
+ * once and removed only when its last occurrence is removed.
+ * Reads share a read lock and never block each other; updates take the write lock.
+ */
+public class NameTrie {
+
+    private static final class Node {
+        /**
+         * Children keyed by the first character of their edge label.
+         */
+        final TreeMap<Character, Node> children = new TreeMap<>();
+
+        /**
+         * Names ending at this node, keyed by their original spelling, with occurrence counts.
+         */
+        final TreeMap<String, Integer> names = new TreeMap<>();
+
+        String label;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Node root = new Node("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds one occurrence of a name.
+     *
+     * @param name The name to add; `null` and blank names are ignored.
+     */
+    public void add(String name) {
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String key = fold(name);
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                Node child = node.children.get(key.charAt(position));
+                if (child == null) {
+                    child = new Node(key.substring(position));
+                    node.children.put(key.charAt(position), child);
+                    node = child;
+                    position = key.length();
+                    break;
+                }
+                int common = commonPrefixLength(child.label, key, position);
+                if (common < child.label.length()) {
+                    // Split the edge: the shared part becomes a new node above the existing child.
+                    Node split = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(split.label.charAt(0), split);
+                    child = split;
+                }
+                node = child;
+                position += common;
+            }
+            node.names.merge(name, 1, Integer::sum);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes one occurrence of a name.
+     *
+     * @param name The name to remove; unknown names are ignored.
+     */
+    public void remove(String name) {
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String key = fold(name);
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                Node child = node.children.get(key.charAt(position));
+                if (child == null || !key.startsWith(child.label, position)) {
+                    return;
+                }
+                path.add(node);
+                node = child;
+                position += child.label.length();
+            }
+            node.names.computeIfPresent(name, (spelling, count) -> count > 1 ? count - 1 : null);
+            // Prune nodes left without names or children.
+            for (int i = path.size() - 1; i >= 0 && node.names.isEmpty() && node.children.isEmpty(); i--) {
+                Node parent = path.get(i);
+                parent.children.remove(node.label.charAt(0));
+                node = parent;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces one occurrence of a name with another, for renames.
+     *
+     * @param oldName The previous name.
+     * @param newName The new name.
+     */
+    public void replace(String oldName, String newName) {
+        if (oldName != null && oldName.equals(newName)) {
+            return;
+        }
+        remove(oldName);
+        add(newName);
+    }
+
+    /**
+     * Completes a prefix, ignoring case.
+     *
+     * @param prefix The typed prefix.
+     * @param limit  The maximum number of names to return.
+     * @return Up to `limit` distinct names starting with the prefix, in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        List<String> completions = new ArrayList<>();
+        if (prefix == null || limit <= 0) {
+            return completions;
+        }
+        String key = fold(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                Node child = node.children.get(key.charAt(position));
+                if (child == null) {
+                    return completions;
+                }
+                int common = commonPrefixLength(child.label, key, position);
+                if (position + common == key.length()) {
+                    // The prefix ends inside or at the end of this edge: the whole subtree matches.
+                    node = child;
+                    break;
+                }
+                if (common < child.label.length()) {
+                    return completions;
+                }
+                node = child;
+                position += common;
+            }
+            collect(node, completions, limit);
+            return completions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all names.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.names.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void collect(Node node, List<String> completions, int limit) {
+        for (String name : node.names.keySet()) {
+            if (completions.size() >= limit) {
+                return;
+            }
+            completions.add(name);
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            if (completions.size() >= limit) {
+                return;
+            }
+            collect(child.getValue(), completions, limit);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String fold(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.learning_platform.utils.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements executed while serving each request and records them in the
+ * `http.server.requests.statements` distribution summary, tagged by URI template and HTTP method.
+ * The count is also returned in the `X-Query-Count` header by `StatementCountHeaderAdvice`.
+ * Runs before every other filter, so statements issued by authentication are included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    /**
+     * The response header carrying the number of statements executed before the body was written.
+     */
+    public static final String HEADER = "X-Query-Count";
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public StatementCountFilter(StatementCounter statementCounter, MeterRegistry meterRegistry) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = statementCounter.stop();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.requests.statements")
+                    .description("SQL statements executed per request")
+                    .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.learning_platform.utils.sql;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the number of SQL statements executed so far to every response body returned by a controller.
+ * The header has to be set here, right before the body is written, because the response is already committed
+ * by the time `StatementCountFilter` regains control.
+ */
+@ControllerAdvice
+public class StatementCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final StatementCounter statementCounter;
+
+    public StatementCountHeaderAdvice(StatementCounter statementCounter) {
+        this.statementCounter = statementCounter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(StatementCountFilter.HEADER, Long.toString(statementCounter.current()));
+        return body;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.learning_platform.utils.sql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between `start` and `stop`.
+ * It is registered as Hibernate's `StatementInspector`, so every JPQL, native and Spring Data query is seen,
+ * while statements issued through `JdbcTemplate` are not. Threads that never called `start` are not counted,
+ * which keeps scheduled jobs and streaming responses out of the request counts.
+ */
+@Component
+public class StatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    /**
+     * Starts counting on the current thread from zero.
+     */
+    public void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * Returns the number of statements counted so far on the current thread, or 0 if counting was not started.
+     */
+    public long current() {
+        long[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return the number of statements counted since `start`.
+     */
+    public long stop() {
+        long count = current();
+        COUNT.remove();
+        return count;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
@@ -0,0 +1,9 @@
+-- Indexes backing the database-ordered course sorting endpoints.
+-- `ID` is the tie-breaker of every sort, so each index covers the full ORDER BY and a top-N query stops after N entries.
+CREATE INDEX IF NOT EXISTS idx_course_duration ON Course (Duration, ID);
+
+CREATE INDEX IF NOT EXISTS idx_course_price ON Course (Price, ID);
+
+CREATE INDEX IF NOT EXISTS idx_course_total_enrollments ON Course (Total_Enrollments, ID);
+
+CREATE INDEX IF NOT EXISTS idx_course_average_rating ON Course (Average_Rating DESC, ID);
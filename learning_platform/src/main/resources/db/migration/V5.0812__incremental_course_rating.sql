@@ -0,0 +1,21 @@
+-- Replace the AVG-recomputing rating triggers with a rating sum and count on `Course`
+-- that the application adjusts in O(1) on every feedback insert, update and delete.
+DROP TRIGGER IF EXISTS after_feedback_insert ON Feedback;
+DROP TRIGGER IF EXISTS after_feedback_delete ON Feedback;
+DROP FUNCTION IF EXISTS update_average_rating_on_insert();
+DROP FUNCTION IF EXISTS update_average_rating_on_delete();
+
+ALTER TABLE Course ADD COLUMN IF NOT EXISTS Rating_Sum FLOAT NOT NULL DEFAULT 0.0;
+ALTER TABLE Course ADD COLUMN IF NOT EXISTS Rating_Count INT NOT NULL DEFAULT 0 CHECK (Rating_Count >= 0);
+
+-- Backfill the aggregates from the existing feedback.
+UPDATE Course
+SET Rating_Sum = f.Total,
+    Rating_Count = f.Total_Count,
+    Average_Rating = f.Total / f.Total_Count
+FROM (
+    SELECT Course_ID, SUM(Rating) AS Total, COUNT(*) AS Total_Count
+    FROM Feedback
+    GROUP BY Course_ID
+) f
+WHERE Course.ID = f.Course_ID;
@@ -0,0 +1,6 @@
+-- `Course.Total_Enrollments` is maintained by the application's write-behind counters,
+-- which batch increments per course instead of locking the course row on every enrollment.
+DROP TRIGGER IF EXISTS after_enrollment_insert ON Enrollment;
+DROP TRIGGER IF EXISTS after_enrollment_delete ON Enrollment;
+DROP FUNCTION IF EXISTS update_total_enrollments_on_insert();
+DROP FUNCTION IF EXISTS update_total_enrollments_on_delete();
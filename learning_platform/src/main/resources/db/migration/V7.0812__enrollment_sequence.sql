@@ -0,0 +1,7 @@
+-- Enrollment IDs come from a pooled sequence (allocation size 50) so inserts can be JDBC-batched.
+-- The sequence starts past the existing IDs; Hibernate's pooled optimizer hands out the 50 IDs ending at each value.
+CREATE SEQUENCE IF NOT EXISTS enrollment_seq INCREMENT BY 50;
+SELECT setval('enrollment_seq', GREATEST((SELECT COALESCE(MAX(ID), 0) FROM Enrollment), 1));
+
+ALTER TABLE Enrollment ALTER COLUMN ID SET DEFAULT nextval('enrollment_seq');
+DROP SEQUENCE IF EXISTS enrollment_id_seq;
@@ -0,0 +1,28 @@
+-- Entity IDs come from pooled sequences (allocation size 50) instead of BIGSERIAL identity columns,
+-- so Hibernate can assign IDs before flushing and send inserts as JDBC batches.
+-- Each sequence is set to the current maximum ID; Hibernate's pooled optimizer hands out the 50 IDs ending at each value.
+-- The Enrollment sequence was created by V7.0812__enrollment_sequence.sql.
+CREATE SEQUENCE IF NOT EXISTS student_seq INCREMENT BY 50;
+SELECT setval('student_seq', GREATEST((SELECT COALESCE(MAX(ID), 0) FROM Student), 1));
+ALTER TABLE Student ALTER COLUMN ID SET DEFAULT nextval('student_seq');
+DROP SEQUENCE IF EXISTS student_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS instructor_seq INCREMENT BY 50;
+SELECT setval('instructor_seq', GREATEST((SELECT COALESCE(MAX(ID), 0) FROM Instructor), 1));
+ALTER TABLE Instructor ALTER COLUMN ID SET DEFAULT nextval('instructor_seq');
+DROP SEQUENCE IF EXISTS instructor_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS category_seq INCREMENT BY 50;
+SELECT setval('category_seq', GREATEST((SELECT COALESCE(MAX(ID), 0) FROM Category), 1));
+ALTER TABLE Category ALTER COLUMN ID SET DEFAULT nextval('category_seq');
+DROP SEQUENCE IF EXISTS category_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS course_seq INCREMENT BY 50;
+SELECT setval('course_seq', GREATEST((SELECT COALESCE(MAX(ID), 0) FROM Course), 1));
+ALTER TABLE Course ALTER COLUMN ID SET DEFAULT nextval('course_seq');
+DROP SEQUENCE IF EXISTS course_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS feedback_seq INCREMENT BY 50;
+SELECT setval('feedback_seq', GREATEST((SELECT COALESCE(MAX(ID), 0) FROM Feedback), 1));
+ALTER TABLE Feedback ALTER COLUMN ID SET DEFAULT nextval('feedback_seq');
+DROP SEQUENCE IF EXISTS feedback_id_seq;
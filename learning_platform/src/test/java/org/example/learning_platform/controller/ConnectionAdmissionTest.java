@@ -0,0 +1,57 @@
+package org.example.learning_platform.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that a request which cannot get a database connection in time is answered with `503`,
+ * while requests that never touch the database are served regardless.
+ */
+@SpringBootTest(properties = {"datasource.admission.max-connections=2", "datasource.admission.queue-timeout-ms=100"})
+@AutoConfigureMockMvc
+@WithMockUser
+class ConnectionAdmissionTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void requestsNeedingAConnectionAreRejectedWhileAllPermitsAreHeld() throws Exception {
+        List<Connection> held = new ArrayList<>();
+        try {
+            held.add(dataSource.getConnection());
+            held.add(dataSource.getConnection());
+
+            mockMvc.perform(get("/student/get-student-by-name/{name}", "Nobody"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+            // The course list lets the failure escape the controller, so the filter answers it.
+            mockMvc.perform(get("/course/get-all-courses"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+            mockMvc.perform(get("/student/autocomplete").param("prefix", "Nob"))
+                    .andExpect(status().isOk());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        mockMvc.perform(get("/student/get-student-by-name/{name}", "Nobody"))
+                .andExpect(status().isOk());
+    }
+}
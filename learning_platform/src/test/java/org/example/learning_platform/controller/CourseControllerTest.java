@@ -0,0 +1,74 @@
+package org.example.learning_platform.controller;
+
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.repository.CategoryRepository;
+import org.example.learning_platform.repository.CourseRepository;
+import org.example.learning_platform.repository.InstructorRepository;
+import org.example.learning_platform.support.StatementBudget;
+import org.example.learning_platform.utils.catalog.CategoryCatalog;
+import org.example.learning_platform.utils.search.CourseSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CourseControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private InstructorRepository instructorRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private CategoryCatalog categoryCatalog;
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Test
+    void courseByNameMatchesTitleWordsThroughTheIndex() throws Exception {
+        String word = "Lookup" + System.nanoTime();
+        Course course = saveCourse("Advanced " + word + " Patterns");
+        saveCourse("Unrelated Course " + System.nanoTime());
+
+        mockMvc.perform(get("/course/get-course-by-name/{name}", word.substring(0, word.length() - 3).toLowerCase() + " adv"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].id").value(course.getId()))
+                .andExpect(StatementBudget.atMost(2, 0, 1));
+    }
+
+    private Course saveCourse(String title) {
+        Instructor instructor = instructorRepository.save(new Instructor()
+                .setName("Course Test Instructor " + System.nanoTime())
+                .setEmail("course.instructor." + System.nanoTime() + "@example.org"));
+        Category category = categoryRepository.save(new Category().setName("Course Test Category " + System.nanoTime()));
+        Course course = courseRepository.save(new Course()
+                .setTitle(title)
+                .setDuration(10)
+                .setPrice(100)
+                .setTotalEnrollments(0)
+                .setAverageRating(0.0F)
+                .setRatingSum(0.0)
+                .setRatingCount(0)
+                .setInstructor(instructor)
+                .setCategory(category));
+        // Saved around the services, so the catalog and the index are told directly.
+        categoryCatalog.reload();
+        courseSearchIndex.index(course);
+        return course;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.learning_platform.controller;
+
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.entity.Student;
+import org.example.learning_platform.repository.CategoryRepository;
+import org.example.learning_platform.repository.CourseRepository;
+import org.example.learning_platform.repository.EnrollmentRepository;
+import org.example.learning_platform.repository.InstructorRepository;
+import org.example.learning_platform.repository.StudentRepository;
+import org.example.learning_platform.support.StatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class EnrollmentControllerTest {
+    private static final String STUDENT_NAME = "Enrollment Test Student";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private InstructorRepository instructorRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @MockitoSpyBean
+    private EnrollmentRepository enrollmentRepository;
+
+    private Long courseId;
+
+    @BeforeEach
+    void setUp() {
+        if (studentRepository.findByName(STUDENT_NAME).isEmpty()) {
+            studentRepository.save(new Student()
+                    .setName(STUDENT_NAME)
+                    .setEmail("enrollment.test.student@example.org")
+                    .setDateOfBirth(LocalDate.of(2000, 1, 1))
+                    .setRegistrationDate(LocalDate.now()));
+        }
+        courseId = saveCourse();
+    }
+
+    private Long saveCourse() {
+        Instructor instructor = instructorRepository.save(new Instructor()
+                .setName("Enrollment Test Instructor " + System.nanoTime())
+                .setEmail("instructor." + System.nanoTime() + "@example.org"));
+        Category category = categoryRepository.save(new Category().setName("Enrollment Test Category " + System.nanoTime()));
+        return courseRepository.save(new Course()
+                .setTitle("Enrollment Test Course " + System.nanoTime())
+                .setDuration(10)
+                .setPrice(100)
+                .setTotalEnrollments(0)
+                .setAverageRating(0.0F)
+                .setRatingSum(0.0)
+                .setRatingCount(0)
+                .setInstructor(instructor)
+                .setCategory(category)).getId();
+    }
+
+    @Test
+    void enrollmentInMissingCourseIsReportedWithoutSql() throws Exception {
+        mockMvc.perform(post("/enrollment/create-enrollment")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentName\": \"" + STUDENT_NAME + "\", \"courseId\": 999999999}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Enrollment could not be saved. Course is not found"));
+    }
+
+    @Test
+    void repeatedEnrollmentIsReportedWithoutSql() throws Exception {
+        String body = "{\"studentName\": \"" + STUDENT_NAME + "\", \"courseId\": " + courseId + "}";
+        mockMvc.perform(post("/enrollment/create-enrollment").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/enrollment/create-enrollment").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(
+                        "Enrollment could not be saved. Enrollment with that student and course is already exist."));
+    }
+
+    @Test
+    void bulkEnrollmentRacingAnotherEnrollmentReportsTheDuplicateRow() throws Exception {
+        Long otherCourseId = saveCourse();
+        mockMvc.perform(post("/enrollment/create-enrollment")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentName\": \"" + STUDENT_NAME + "\", \"courseId\": " + courseId + "}"))
+                .andExpect(status().isCreated());
+        // The existing pair is not seen by the duplicate check, as if it had been inserted right after it.
+        doReturn(List.of()).when(enrollmentRepository).findExistingPairs(any(), any());
+
+        mockMvc.perform(post("/enrollment/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"studentName\": \"" + STUDENT_NAME + "\", \"courseId\": " + courseId + "}, "
+                                + "{\"studentName\": \"" + STUDENT_NAME + "\", \"courseId\": " + otherCourseId + "}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.data[0].enrollmentId").doesNotExist())
+                .andExpect(jsonPath("$.data[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.data[1].enrollmentId").isNumber());
+    }
+
+    @Test
+    void enrollmentWithCachedStudentIssuesOnlyTheInsert() throws Exception {
+        Long otherCourseId = saveCourse();
+        // The first enrollment puts the student's ID in the StudentIdCache.
+        mockMvc.perform(post("/enrollment/create-enrollment")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentName\": \"" + STUDENT_NAME + "\", \"courseId\": " + courseId + "}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/enrollment/create-enrollment")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentName\": \"" + STUDENT_NAME + "\", \"courseId\": " + otherCourseId + "}"))
+                .andExpect(status().isCreated())
+                .andExpect(StatementBudget.atMost(1, 0, 1));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.learning_platform.controller;
+
+import org.example.learning_platform.entity.Student;
+import org.example.learning_platform.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class FeedbackControllerTest {
+    private static final String STUDENT_NAME = "Feedback Test Student";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (studentRepository.findByName(STUDENT_NAME).isEmpty()) {
+            studentRepository.save(new Student()
+                    .setName(STUDENT_NAME)
+                    .setEmail("feedback.test.student@example.org")
+                    .setDateOfBirth(LocalDate.of(2000, 1, 1))
+                    .setRegistrationDate(LocalDate.now()));
+        }
+    }
+
+    @Test
+    void feedbackOnMissingCourseIsReportedWithoutSql() throws Exception {
+        mockMvc.perform(post("/feedback/create-feedback")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"studentName\": \"" + STUDENT_NAME + "\", \"courseId\": 999999999, \"rating\": 4.0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Feedback could not be saved. Course is not found"));
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.learning_platform.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.learning_platform.entity.Category;
+import org.example.learning_platform.entity.Course;
+import org.example.learning_platform.entity.Enrollment;
+import org.example.learning_platform.entity.Feedback;
+import org.example.learning_platform.entity.Instructor;
+import org.example.learning_platform.entity.Student;
+import org.example.learning_platform.repository.CategoryRepository;
+import org.example.learning_platform.repository.CourseRepository;
+import org.example.learning_platform.repository.EnrollmentRepository;
+import org.example.learning_platform.repository.FeedbackRepository;
+import org.example.learning_platform.repository.InstructorRepository;
+import org.example.learning_platform.repository.StudentRepository;
+import org.example.learning_platform.support.StatementBudget;
+import org.example.learning_platform.utils.catalog.CategoryCatalog;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the list endpoints execute a fixed number of statements however many rows they return.
+ * Every seeded row has its own student, course, instructor and category, and the second-level cache is emptied
+ * before each request, so loading associations one row at a time would exceed the budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTest {
+    private static final int ROWS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CategoryCatalog categoryCatalog;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private InstructorRepository instructorRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < ROWS; i++) {
+            String suffix = " " + i + " " + System.nanoTime();
+            Student student = studentRepository.save(new Student()
+                    .setName("Budget Test Student" + suffix)
+                    .setEmail("budget.student." + i + "." + System.nanoTime() + "@example.org")
+                    .setDateOfBirth(LocalDate.of(2000, 1, 1))
+                    .setRegistrationDate(LocalDate.now()));
+            Instructor instructor = instructorRepository.save(new Instructor()
+                    .setName("Budget Test Instructor" + suffix)
+                    .setEmail("budget.instructor." + i + "." + System.nanoTime() + "@example.org"));
+            Category category = categoryRepository.save(new Category().setName("Budget Test Category" + suffix));
+            Course course = courseRepository.save(new Course()
+                    .setTitle("Budget Test Course" + suffix)
+                    .setDuration(10)
+                    .setPrice(100)
+                    .setTotalEnrollments(0)
+                    .setAverageRating(0.0F)
+                    .setRatingSum(0.0)
+                    .setRatingCount(0)
+                    .setInstructor(instructor)
+                    .setCategory(category));
+            enrollmentRepository.save(new Enrollment()
+                    .setEnrollmentStudent(student)
+                    .setEnrollmentCourse(course));
+            feedbackRepository.save(new Feedback()
+                    .setRating(4.0)
+                    .setComment("Budget test feedback")
+                    .setFeedbackStudent(student)
+                    .setFeedbackCourse(course));
+        }
+        // The categories were saved around the service, so the catalog has not seen them yet.
+        categoryCatalog.reload();
+    }
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void courseListHasFixedStatementCount() throws Exception {
+        mockMvc.perform(get("/course/get-all-courses"))
+                .andExpect(status().isOk())
+                .andExpect(StatementBudget.atMost(2, 0, ROWS));
+    }
+
+    @Test
+    void enrollmentListHasFixedStatementCount() throws Exception {
+        mockMvc.perform(get("/enrollment/get-all-enrollment"))
+                .andExpect(status().isOk())
+                .andExpect(StatementBudget.atMost(1, 0, ROWS));
+    }
+
+    @Test
+    void enrollmentPageHasFixedStatementCount() throws Exception {
+        mockMvc.perform(get("/enrollment/get-all-enrollment").param("limit", Integer.toString(ROWS)))
+                .andExpect(status().isOk())
+                .andExpect(StatementBudget.atMost(1, 0, ROWS));
+    }
+
+    @Test
+    void feedbackListHasFixedStatementCount() throws Exception {
+        mockMvc.perform(get("/feedback/get-all-feedback"))
+                .andExpect(status().isOk())
+                .andExpect(StatementBudget.atMost(1, 0, ROWS));
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.learning_platform.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.learning_platform.entity.Student;
+import org.example.learning_platform.repository.StudentRepository;
+import org.example.learning_platform.utils.pagination.CursorPagination;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class StudentControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Test
+    void sortByNamePagesThroughStudentsSharingAName() throws Exception {
+        String name = "Shared Name " + System.nanoTime();
+        Long first = saveStudent(name).getId();
+        Long second = saveStudent(name).getId();
+
+        // Start right before the shared name, so each page of one holds one of the two students.
+        String cursor = CursorPagination.encode(CursorPagination.nameKey(name, 0L));
+        JsonNode firstPage = page(cursor);
+        JsonNode secondPage = page(firstPage.path("nextCursor").asText());
+
+        assertEquals(first, firstPage.path("items").get(0).path("id").asLong());
+        assertEquals(second, secondPage.path("items").get(0).path("id").asLong());
+    }
+
+    private JsonNode page(String cursor) throws Exception {
+        String body = mockMvc.perform(get("/student/sort-by-name").param("after", cursor).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data");
+    }
+
+    private Student saveStudent(String name) {
+        return studentRepository.save(new Student()
+                .setName(name)
+                .setEmail("shared.name." + System.nanoTime() + "@example.org")
+                .setDateOfBirth(LocalDate.of(2000, 1, 1))
+                .setRegistrationDate(LocalDate.now()));
+    }
+}
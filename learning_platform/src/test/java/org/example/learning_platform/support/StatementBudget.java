@@ -0,0 +1,60 @@
+package org.example.learning_platform.support;
+
+import org.example.learning_platform.utils.sql.StatementCountFilter;
+import org.example.learning_platform.utils.sql.StatementCounter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.function.Supplier;
+
+/**
+ * Assertions on the number of SQL statements a request or a service call executes, so that an N+1 query
+ * fails the build instead of reaching production. Budgets are written as a fixed part plus a part per row,
+ * e.g. `atMost(2, 0, rows)` for an endpoint that must not issue more statements as the rows grow.
+ * <pre>
+ * mockMvc.perform(get("/course/get-all-courses")).andExpect(StatementBudget.atMost(3, 0, 1000));
+ * </pre>
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {}
+
+    /**
+     * Expects the response to report at most `fixed + perRow * rows` statements in its `X-Query-Count` header.
+     * Requires the MockMvc filter chain, which `@AutoConfigureMockMvc` sets up by default.
+     */
+    public static ResultMatcher atMost(long fixed, long perRow, long rows) {
+        long budget = fixed + perRow * rows;
+        return result -> {
+            String header = result.getResponse().getHeader(StatementCountFilter.HEADER);
+            if (header == null) {
+                throw new AssertionError("Response has no " + StatementCountFilter.HEADER + " header");
+            }
+            check(Long.parseLong(header), budget, result.getRequest().getRequestURI());
+        };
+    }
+
+    /**
+     * Runs the action on the current thread and fails if it executed more than `fixed + perRow * rows` statements.
+     *
+     * @return the action's result.
+     */
+    public static <T> T atMost(StatementCounter statementCounter, long fixed, long perRow, long rows, Supplier<T> action) {
+        statementCounter.start();
+        T result;
+        long statements;
+        try {
+            result = action.get();
+        } finally {
+            statements = statementCounter.stop();
+        }
+        check(statements, fixed + perRow * rows, "the action");
+        return result;
+    }
+
+    private static void check(long statements, long budget, String subject) {
+        if (statements > budget) {
+            throw new AssertionError("Expected " + subject + " to execute at most " + budget
+                    + " SQL statements, but it executed " + statements);
+        }
+    }
+}